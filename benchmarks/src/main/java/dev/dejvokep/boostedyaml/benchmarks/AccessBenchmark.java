@@ -0,0 +1,101 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.route.Route;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks access to a loaded document: getting (raw and typed) values by string and object routes, and setting
+ * values.
+ * <p>
+ * Each invocation operates on the next terminal key of the document, cycling through all of them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AccessBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+    @Param({"1", "3", "6"})
+    private int depth;
+    @Param({"0", "0.5"})
+    private double commentDensity;
+
+    private YamlDocument document;
+    private List<String> stringRoutes;
+    private List<Route> routes;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Documents documents = new Documents(size, depth, commentDensity);
+        document = YamlDocument.create(documents.stream());
+        stringRoutes = documents.getRoutes();
+        routes = documents.getObjectRoutes();
+    }
+
+    /**
+     * Returns index of the next key to operate on.
+     *
+     * @return the index
+     */
+    private int next() {
+        return index = index + 1 == routes.size() ? 0 : index + 1;
+    }
+
+    @Benchmark
+    public Object getString() {
+        return document.get(stringRoutes.get(next()));
+    }
+
+    @Benchmark
+    public Integer getIntString() {
+        return document.getInt(stringRoutes.get(next()));
+    }
+
+    @Benchmark
+    public int getPrimitiveIntString() {
+        return document.getInt(stringRoutes.get(next()), 0);
+    }
+
+    @Benchmark
+    public Object getRoute() {
+        return document.get(routes.get(next()));
+    }
+
+    @Benchmark
+    public YamlDocument setString() {
+        document.set(stringRoutes.get(next()), index);
+        return document;
+    }
+
+    @Benchmark
+    public YamlDocument setRoute() {
+        document.set(routes.get(next()), index);
+        return document;
+    }
+
+}
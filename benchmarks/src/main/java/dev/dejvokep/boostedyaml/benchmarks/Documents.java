@@ -0,0 +1,201 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.route.Route;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Deterministic generator of benchmark documents.
+ * <p>
+ * Generated documents contain exactly <code>size</code> terminal keys, spread across sections nested <code>depth</code>
+ * levels deep (<code>depth</code> of <code>1</code> produces a flat document). Terminal values alternate between
+ * strings, integers, decimals, booleans and short lists.
+ */
+public class Documents {
+
+    /**
+     * Seed used to generate the documents, so runs are comparable.
+     */
+    private static final long SEED = 0x5EEDL;
+
+    /**
+     * Generated document content (UTF-8).
+     */
+    private final byte[] content;
+    /**
+     * Routes to all terminal keys, in the order they appear in the document.
+     */
+    private final List<String> routes = new ArrayList<>();
+
+    /**
+     * Fanout (amount of subsections per section).
+     */
+    private final int fanout;
+    /**
+     * Random used to place comments.
+     */
+    private final Random random = new Random(SEED);
+    /**
+     * Comment density.
+     */
+    private final double commentDensity;
+    /**
+     * Amount of keys which remain to be generated.
+     */
+    private int remaining;
+
+    /**
+     * Generates a document.
+     *
+     * @param size           amount of terminal keys
+     * @param depth          nesting depth, at least <code>1</code>
+     * @param commentDensity probability of a key having a comment attached, from <code>0</code> to <code>1</code>
+     */
+    public Documents(int size, int depth, double commentDensity) {
+        this.commentDensity = commentDensity;
+        this.remaining = size;
+        this.fanout = Math.max(2, (int) Math.ceil(Math.pow(size, 1D / Math.max(1, depth))));
+
+        //Generate
+        StringBuilder builder = new StringBuilder();
+        builder.append("config-version: 1\n");
+        generate(builder, "", 0, Math.max(1, depth));
+        content = builder.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Generates content of one section.
+     *
+     * @param builder the builder to append to
+     * @param prefix  route prefix of the section (empty or ending with the separator)
+     * @param level   nesting level of the section
+     * @param depth   total nesting depth
+     */
+    private void generate(@NotNull StringBuilder builder, @NotNull String prefix, int level, int depth) {
+        //Indentation
+        String indent = String.join("", Collections.nCopies(level * 2, " "));
+
+        //Leaf level
+        if (level == depth - 1) {
+            for (int i = 0; remaining > 0 && (i < fanout || level == 0); i++, remaining--) {
+                comment(builder, indent);
+                String key = "key-" + i;
+                routes.add(prefix + key);
+                builder.append(indent).append(key).append(": ");
+                value(builder, i);
+                builder.append('\n');
+            }
+            return;
+        }
+
+        //Subsections
+        for (int i = 0; remaining > 0 && (i < fanout || level == 0); i++) {
+            comment(builder, indent);
+            String key = "section-" + i;
+            builder.append(indent).append(key).append(":\n");
+            generate(builder, prefix + key + ".", level + 1, depth);
+        }
+    }
+
+    /**
+     * Appends a comment line with the probability given by the comment density.
+     *
+     * @param builder the builder to append to
+     * @param indent  indentation to use
+     */
+    private void comment(@NotNull StringBuilder builder, @NotNull String indent) {
+        if (commentDensity > 0 && random.nextDouble() < commentDensity)
+            builder.append(indent).append("# Comment describing the following key\n");
+    }
+
+    /**
+     * Appends a value.
+     *
+     * @param builder the builder to append to
+     * @param index   index of the key
+     */
+    private void value(@NotNull StringBuilder builder, int index) {
+        switch (index % 5) {
+            case 0:
+                builder.append("\"string value ").append(index).append('"');
+                break;
+            case 1:
+                builder.append(index);
+                break;
+            case 2:
+                builder.append(index).append(".5");
+                break;
+            case 3:
+                builder.append(index % 2 == 0);
+                break;
+            default:
+                builder.append("[1, 2, 3]");
+        }
+    }
+
+    /**
+     * Returns a new stream over the document content.
+     *
+     * @return the stream
+     */
+    @NotNull
+    public InputStream stream() {
+        return new BufferedInputStream(new ByteArrayInputStream(content));
+    }
+
+    /**
+     * Returns the document content.
+     *
+     * @return the content
+     */
+    public byte[] getContent() {
+        return content;
+    }
+
+    /**
+     * Returns string routes to all terminal keys.
+     *
+     * @return the string routes
+     */
+    @NotNull
+    public List<String> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Returns routes to all terminal keys, converted using the default separator.
+     *
+     * @return the routes
+     */
+    @NotNull
+    public List<Route> getObjectRoutes() {
+        List<Route> routes = new ArrayList<>(this.routes.size());
+        for (String route : this.routes)
+            routes.add(Route.fromString(route));
+        return routes;
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks dumping of documents.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DumpBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+    @Param({"1", "3", "6"})
+    private int depth;
+    @Param({"0", "0.5"})
+    private double commentDensity;
+
+    private YamlDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        document = YamlDocument.create(new Documents(size, depth, commentDensity).stream());
+    }
+
+    @Benchmark
+    public String dump() {
+        return document.dump();
+    }
+
+}
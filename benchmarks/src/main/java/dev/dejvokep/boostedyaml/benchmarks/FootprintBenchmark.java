@@ -0,0 +1,96 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the heap footprint of a loaded document. Each invocation loads a document and reports the heap it retains
+ * per terminal key as the <code>bytesPerKey</code> secondary result.
+ * <p>
+ * The footprint is measured as the difference of used heap before and after loading (both after a full collection),
+ * so the benchmark should be run with a fixed heap size (e.g. <code>-jvmArgs -Xms4g -Xmx4g</code>).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FootprintBenchmark {
+
+    @Param({"1000000"})
+    private int size;
+    @Param({"1", "3"})
+    private int depth;
+    @Param({"0", "0.1"})
+    private double commentDensity;
+
+    private Documents documents;
+    private LoaderSettings settings;
+    private YamlDocument document;
+
+    /**
+     * Heap retained by the loaded document.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long bytesPerKey;
+
+    }
+
+    @Setup(Level.Trial)
+    public void setup() {
+        documents = new Documents(size, depth, commentDensity);
+        settings = LoaderSettings.builder().setCodePointLimit(Integer.MAX_VALUE).build();
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDown() {
+        document = null;
+    }
+
+    @Benchmark
+    public YamlDocument load(Footprint footprint) throws IOException {
+        //Measure
+        long before = usedHeap();
+        document = YamlDocument.create(documents.stream(), settings);
+        long after = usedHeap();
+        //Set
+        footprint.bytesPerKey = (after - before) / size;
+        return document;
+    }
+
+    /**
+     * Returns the used heap after a full collection.
+     *
+     * @return the used heap, in bytes
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++)
+            System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+}
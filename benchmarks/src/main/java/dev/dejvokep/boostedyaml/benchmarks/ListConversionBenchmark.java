@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks repeated reads of typed lists, with list conversion caching enabled or disabled.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListConversionBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean cache;
+
+    private YamlDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        //Generate
+        StringBuilder builder = new StringBuilder("lists:\n  strings:\n");
+        for (int i = 0; i < size; i++)
+            builder.append("    - value-").append(i).append('\n');
+        builder.append("  ints:\n");
+        for (int i = 0; i < size; i++)
+            builder.append("    - ").append(i).append('\n');
+        builder.append("  maps:\n");
+        for (int i = 0; i < size; i++)
+            builder.append("    - {key: ").append(i).append("}\n");
+        //Load
+        document = YamlDocument.create(new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8)),
+                GeneralSettings.builder().setCacheListConversions(cache).build());
+    }
+
+    @Benchmark
+    public List<String> getStringList() {
+        return document.getStringList("lists.strings");
+    }
+
+    @Benchmark
+    public List<Integer> getIntList() {
+        return document.getIntList("lists.ints");
+    }
+
+    @Benchmark
+    public List<Map<?, ?>> getMapList() {
+        return document.getMapList("lists.maps");
+    }
+
+}
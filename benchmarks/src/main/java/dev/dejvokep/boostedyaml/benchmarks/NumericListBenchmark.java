@@ -0,0 +1,67 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks reading of large numeric lists (e.g. lookup tables), with lists packed or stored as lists of wrappers.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumericListBenchmark {
+
+    @Param({"10000", "100000"})
+    private int size;
+    @Param({"false", "true"})
+    private boolean packed;
+
+    private YamlDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        //Generate
+        StringBuilder builder = new StringBuilder("table:\n");
+        for (int i = 0; i < size; i++)
+            builder.append("  - ").append(i * 1000).append('\n');
+        //Load
+        document = YamlDocument.create(new ByteArrayInputStream(builder.toString().getBytes(StandardCharsets.UTF_8)),
+                LoaderSettings.builder().setPackNumericLists(packed).setCodePointLimit(Integer.MAX_VALUE).build());
+    }
+
+    @Benchmark
+    public List<Integer> getIntList() {
+        return document.getIntList("table");
+    }
+
+    @Benchmark
+    public int[] getIntArray() {
+        return document.getIntArray("table");
+    }
+
+}
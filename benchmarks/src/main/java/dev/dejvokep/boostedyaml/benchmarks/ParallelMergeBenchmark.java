@@ -0,0 +1,83 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.updater.operators.Merger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks sequential and parallel merging of large documents. Results depend on the amount of available cores.
+ * <p>
+ * The merged document misses every other terminal key of the defaults and is recreated before each invocation.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParallelMergeBenchmark {
+
+    @Param({"100000", "500000"})
+    private int size;
+    @Param({"2", "3"})
+    private int depth;
+    @Param({"false", "true"})
+    private boolean parallel;
+
+    private YamlDocument defaults;
+    private byte[] content;
+    private UpdaterSettings settings;
+    private YamlDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Documents documents = new Documents(size, depth, 0);
+        List<String> routes = documents.getRoutes();
+
+        //Defaults
+        defaults = YamlDocument.create(documents.stream());
+        defaults.freeze();
+
+        //Document missing every other key
+        YamlDocument document = YamlDocument.create(documents.stream());
+        for (int i = 0; i < routes.size(); i += 2)
+            document.remove(routes.get(i));
+        content = document.dump().getBytes(StandardCharsets.UTF_8);
+
+        settings = UpdaterSettings.builder().setParallelMerge(parallel).setParallelMergeThreshold(1000).build();
+    }
+
+    @Setup(Level.Invocation)
+    public void document() throws IOException {
+        document = YamlDocument.create(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public YamlDocument merge() {
+        Merger.merge(document, defaults, settings);
+        return document;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.benchmarks;
+
+import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.dvs.versioning.BasicVersioning;
+import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.updater.VersionedOperations;
+import dev.dejvokep.boostedyaml.updater.operators.Merger;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the updater: merging a document with its defaults and running versioned operations (relocations).
+ * <p>
+ * The updated document misses every other terminal key of the defaults and is recreated before each invocation, as
+ * both operations modify it.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UpdateBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int size;
+    @Param({"1", "3", "6"})
+    private int depth;
+    @Param({"0", "0.5"})
+    private double commentDensity;
+    @Param({"2", "50"})
+    private int versions;
+
+    private YamlDocument defaults;
+    private byte[] content;
+    private UpdaterSettings settings;
+    private YamlDocument document;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        Documents documents = new Documents(size, depth, commentDensity);
+        List<String> routes = documents.getRoutes();
+
+        //Defaults
+        defaults = YamlDocument.create(documents.stream());
+        defaults.set("config-version", versions);
+
+        //Document missing every other key
+        YamlDocument document = YamlDocument.create(documents.stream());
+        for (int i = 0; i < routes.size(); i += 2)
+            document.remove(routes.get(i));
+        content = document.dump().getBytes(StandardCharsets.UTF_8);
+
+        //Relocate one key per version
+        UpdaterSettings.Builder builder = UpdaterSettings.builder().setVersioning(new BasicVersioning("config-version"));
+        for (int version = 2; version <= versions; version++) {
+            String route = routes.get((version * 31) % routes.size());
+            builder.addRelocation(String.valueOf(version), route, route + "-" + version, '.');
+        }
+        settings = builder.build();
+    }
+
+    @Setup(Level.Invocation)
+    public void document() throws IOException {
+        document = YamlDocument.create(new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public YamlDocument merge() {
+        Merger.merge(document, defaults, settings);
+        return document;
+    }
+
+    @Benchmark
+    public boolean versionedOperations() {
+        return VersionedOperations.run(document, defaults, settings, '.');
+    }
+
+}
@@ -0,0 +1,235 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml;
+
+import dev.dejvokep.boostedyaml.settings.Settings;
+import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
+import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
+import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Loads multiple YAML documents (files) at once, in parallel, sharing the same settings and defaults.
+ * <p>
+ * The defaults are loaded only once and the resulting {@link YamlDocument#freeze() frozen} document is then shared by
+ * all the loaded documents (see {@link YamlDocument#getDefaults()}). Each file is loaded by a separate task, submitted
+ * to the given {@link Executor} (or {@link ForkJoinPool#commonPool()} if not specified). Errors are not propagated,
+ * but collected per file instead - see {@link Result}.
+ * <p>
+ * If the executor rejects a task (e.g. if it is bounded and saturated), the task is run in the calling thread instead,
+ * which also throttles further submissions until the executor catches up.
+ */
+public class BulkLoader {
+
+    /**
+     * Loads the given files in parallel on the {@link ForkJoinPool#commonPool() common pool}, using the defaults
+     * loaded from the given stream (if provided).
+     * <p>
+     * Please see {@link #load(Collection, InputStream, Executor, boolean, Settings...)} for more information.
+     *
+     * @param files    files to load (do not need to {@link File#exists() exist})
+     * @param defaults defaults, shared by all the documents
+     * @param settings settings, shared by all the documents
+     * @return the result
+     * @throws IOException an IO error encountered while loading the defaults
+     */
+    @NotNull
+    public static Result load(@NotNull Collection<File> files, @Nullable InputStream defaults, @NotNull Settings... settings) throws IOException {
+        return load(files, defaults, ForkJoinPool.commonPool(), false, settings);
+    }
+
+    /**
+     * Loads the given files in parallel on the given executor, using the defaults loaded from the given stream (if
+     * provided).
+     * <p>
+     * Each file is loaded as if by {@link YamlDocument#create(File, InputStream, Settings...)}, except the defaults,
+     * which are loaded only once and shared by all the documents. If defaults are provided, each document is also
+     * updated against them - either automatically, if {@link LoaderSettings.Builder#setAutoUpdate(boolean) enabled},
+     * or right after it is loaded, using the given {@link UpdaterSettings}. If enabled, the document is then
+     * {@link YamlDocument#save() saved}.
+     * <p>
+     * If any of the given objects is not an instance of {@link GeneralSettings}, {@link LoaderSettings},
+     * {@link dev.dejvokep.boostedyaml.settings.dumper.DumperSettings} nor {@link UpdaterSettings}, an
+     * {@link IllegalArgumentException} will be thrown. If there are multiple instances of the same settings type, the
+     * last one will take effect.
+     * <p>
+     * Errors (including {@link Error errors}) encountered while processing any of the files do not affect the others and
+     * are available via {@link Result#getErrors()}. Tasks rejected by the executor are run in the calling thread. Files
+     * given multiple times (as defined by {@link File#equals(Object)}) are processed only once. This method blocks until
+     * all the files are processed.
+     *
+     * @param files    files to load (do not need to {@link File#exists() exist})
+     * @param defaults defaults, shared by all the documents
+     * @param executor executor to run the tasks on
+     * @param save     if to save the documents once loaded (and updated)
+     * @param settings settings, shared by all the documents
+     * @return the result
+     * @throws IOException an IO error encountered while loading the defaults
+     */
+    @NotNull
+    public static Result load(@NotNull Collection<File> files, @Nullable InputStream defaults, @NotNull Executor executor, boolean save, @NotNull Settings... settings) throws IOException {
+        //Load the defaults once
+        YamlDocument shared = defaults == null ? null : new YamlDocument(defaults, null, settings);
+        //Freeze
+        if (shared != null)
+            shared.freeze();
+        //Load
+        return load(files, shared, executor, save, settings);
+    }
+
+    /**
+     * Loads the given files in parallel on the given executor, using the given, already loaded and
+     * {@link YamlDocument#freeze() frozen}, defaults (if provided).
+     * <p>
+     * Please see {@link #load(Collection, InputStream, Executor, boolean, Settings...)} for more information.
+     *
+     * @param files    files to load (do not need to {@link File#exists() exist})
+     * @param defaults the frozen defaults, shared by all the documents
+     * @param executor executor to run the tasks on
+     * @param save     if to save the documents once loaded (and updated)
+     * @param settings settings, shared by all the documents
+     * @return the result
+     */
+    @NotNull
+    public static Result load(@NotNull Collection<File> files, @Nullable YamlDocument defaults, @NotNull Executor executor, boolean save, @NotNull Settings... settings) {
+        //Validate
+        if (defaults != null && !defaults.isFrozen())
+            throw new IllegalArgumentException("Shared defaults must be frozen!");
+        //Files (without duplicates)
+        File[] array = new LinkedHashSet<>(files).toArray(new File[0]);
+        YamlDocument[] documents = new YamlDocument[array.length];
+        Throwable[] errors = new Throwable[array.length];
+
+        //Tasks
+        CompletableFuture<?>[] tasks = new CompletableFuture<?>[array.length];
+        for (int i = 0; i < array.length; i++) {
+            int index = i;
+            Runnable task = () -> {
+                try {
+                    documents[index] = load(Objects.requireNonNull(array[index], "File cannot be null!"), defaults, save, settings);
+                } catch (Throwable ex) {
+                    errors[index] = ex;
+                }
+            };
+            try {
+                tasks[i] = CompletableFuture.runAsync(task, executor);
+            } catch (RejectedExecutionException ex) {
+                //Run in this thread (until the executor accepts tasks again)
+                task.run();
+                tasks[i] = CompletableFuture.completedFuture(null);
+            }
+        }
+        //Wait
+        CompletableFuture.allOf(tasks).join();
+
+        //Collect
+        Map<File, YamlDocument> loaded = new LinkedHashMap<>();
+        Map<File, Throwable> failed = new LinkedHashMap<>();
+        for (int i = 0; i < array.length; i++) {
+            if (errors[i] != null)
+                failed.put(array[i], errors[i]);
+            else
+                loaded.put(array[i], documents[i]);
+        }
+        return new Result(loaded, failed);
+    }
+
+    /**
+     * Loads, updates and (if enabled) saves a document.
+     *
+     * @param file     file to load
+     * @param defaults the shared defaults
+     * @param save     if to save the document
+     * @param settings settings
+     * @return the loaded document
+     * @throws IOException an IO error
+     */
+    @NotNull
+    private static YamlDocument load(@NotNull File file, @Nullable YamlDocument defaults, boolean save, @NotNull Settings... settings) throws IOException {
+        //Load
+        YamlDocument document = new YamlDocument(defaults, file, settings);
+        //Update if not done automatically
+        if (defaults != null && !document.getLoaderSettings().isAutoUpdate())
+            document.update();
+        //Save
+        if (save)
+            document.save();
+        return document;
+    }
+
+    /**
+     * Result of a bulk load.
+     */
+    public static class Result {
+
+        // Documents and errors
+        private final Map<File, YamlDocument> documents;
+        private final Map<File, Throwable> errors;
+
+        /**
+         * Creates the result.
+         *
+         * @param documents successfully loaded documents
+         * @param errors    errors encountered
+         */
+        private Result(@NotNull Map<File, YamlDocument> documents, @NotNull Map<File, Throwable> errors) {
+            this.documents = Collections.unmodifiableMap(documents);
+            this.errors = Collections.unmodifiableMap(errors);
+        }
+
+        /**
+         * Returns an unmodifiable map of all successfully loaded documents, in the order of the files given.
+         *
+         * @return the loaded documents
+         */
+        @NotNull
+        public Map<File, YamlDocument> getDocuments() {
+            return documents;
+        }
+
+        /**
+         * Returns an unmodifiable map of errors encountered while processing the files, in the order of the files
+         * given. Files present in this map are not present in {@link #getDocuments()}.
+         *
+         * @return the errors encountered
+         */
+        @NotNull
+        public Map<File, Throwable> getErrors() {
+            return errors;
+        }
+
+        /**
+         * Returns if all the files were processed successfully.
+         *
+         * @return if all the files were processed successfully
+         */
+        public boolean isSuccessful() {
+            return errors.isEmpty();
+        }
+
+    }
+
+}
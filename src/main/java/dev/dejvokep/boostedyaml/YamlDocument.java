@@ -15,21 +15,27 @@
  */
 package dev.dejvokep.boostedyaml;
 
+import dev.dejvokep.boostedyaml.block.Block;
+import dev.dejvokep.boostedyaml.block.Comments;
 import dev.dejvokep.boostedyaml.block.implementation.Section;
 import dev.dejvokep.boostedyaml.engine.ExtendedConstructor;
 import dev.dejvokep.boostedyaml.engine.ExtendedRepresenter;
+import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
 import dev.dejvokep.boostedyaml.settings.Settings;
 import dev.dejvokep.boostedyaml.settings.dumper.DumperSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
 import dev.dejvokep.boostedyaml.updater.Updater;
+import dev.dejvokep.boostedyaml.updater.operators.Merger;
+import dev.dejvokep.boostedyaml.utils.format.NodeRole;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.snakeyaml.engine.v2.api.DumpSettings;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.api.StreamDataWriter;
 import org.snakeyaml.engine.v2.api.YamlUnicodeReader;
+import org.snakeyaml.engine.v2.common.Anchor;
 import org.snakeyaml.engine.v2.composer.Composer;
 import org.snakeyaml.engine.v2.emitter.Emitter;
 import org.snakeyaml.engine.v2.nodes.MappingNode;
@@ -38,14 +44,27 @@ import org.snakeyaml.engine.v2.parser.Parser;
 import org.snakeyaml.engine.v2.parser.ParserImpl;
 import org.snakeyaml.engine.v2.representer.BaseRepresenter;
 import org.snakeyaml.engine.v2.scanner.StreamReader;
+import org.snakeyaml.engine.v2.serializer.AnchorGenerator;
 import org.snakeyaml.engine.v2.serializer.Serializer;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
-import java.util.Objects;
-import java.util.Optional;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Represents a YAML document.
@@ -53,6 +72,11 @@ import java.util.Optional;
 @SuppressWarnings("unused")
 public class YamlDocument extends Section {
 
+    /**
+     * Maximum amount of string routes, whose keys are cached per document.
+     */
+    private static final int MAX_CACHED_ROUTES = 4096;
+
     // The file
     private final File file;
     // Defaults
@@ -62,6 +86,25 @@ public class YamlDocument extends Section {
     private LoaderSettings loaderSettings;
     private DumperSettings dumperSettings;
     private UpdaterSettings updaterSettings;
+    // Engine components built for the associated settings
+    private LoadSettings engineLoadSettings;
+    private ExtendedConstructor constructor;
+    private DumpSettings engineDumpSettings;
+    private SuppliedAnchorGenerator anchorGenerator;
+    private BaseRepresenter representer;
+    private int representedTypes;
+    // State of the associated file as of the last load or save
+    private long fileModified, fileLength;
+    // Contents, published to all threads once replaced
+    private volatile Map<Object, Block<?>> contents;
+    // Route index, along with the contents it was built from
+    private volatile RouteIndex routeIndex;
+    // If the contents were loaded lazily (the route index is not used)
+    private volatile boolean lazyContents;
+    // Keys of string routes split by the separator
+    private final Map<String, String[]> routeKeys = new ConcurrentHashMap<>();
+    // Lists converted by the typed list getters
+    private volatile Map<Block<?>, ConvertedList> convertedLists;
 
     /**
      * Creates and loads a YAML document from the given stream and loads the defaults (another YAML document, later
@@ -84,14 +127,30 @@ public class YamlDocument extends Section {
      * @throws IOException an IO error
      */
     protected YamlDocument(@NotNull InputStream document, @Nullable InputStream defaults, @NotNull Settings... settings) throws IOException {
+        this(defaults == null ? null : new YamlDocument(defaults, null, settings), document, settings);
+    }
+
+    /**
+     * Creates and loads a YAML document from the given stream, using the given, already loaded, defaults.
+     * <p>
+     * The defaults are only read by this document, therefore, the same (preferably {@link #freeze() frozen}) instance
+     * can be shared by multiple documents. The provided settings will be stored and used by this document. If settings
+     * of any type are not provided, their defaults (e.g. {@link GeneralSettings#DEFAULT}) are used.
+     *
+     * @param defaults defaults
+     * @param document document
+     * @param settings settings
+     * @throws IOException an IO error
+     */
+    YamlDocument(@Nullable YamlDocument defaults, @NotNull InputStream document, @NotNull Settings... settings) throws IOException {
         //Call superclass
         super(Collections.emptyMap());
 
         //Set
         setSettingsInternal(settings);
-        setValue(generalSettings.getDefaultMap());
+        setValue(createContents(generalSettings));
         this.file = null;
-        this.defaults = defaults == null ? null : new YamlDocument(defaults, null, settings);
+        this.defaults = defaults;
 
         //Load
         reload(document);
@@ -118,18 +177,89 @@ public class YamlDocument extends Section {
      * @throws IOException an IO error
      */
     protected YamlDocument(@NotNull File document, @Nullable InputStream defaults, @NotNull Settings... settings) throws IOException {
+        this(defaults == null ? null : new YamlDocument(defaults, null, settings), document, settings);
+    }
+
+    /**
+     * Creates and loads a YAML document from the given file, using the given, already loaded, defaults.
+     * <p>
+     * The defaults are only read by this document, therefore, the same (preferably {@link #freeze() frozen}) instance
+     * can be shared by multiple documents. The provided settings will be stored and used by this document. If settings
+     * of any type are not provided, their defaults (e.g. {@link GeneralSettings#DEFAULT}) are used.
+     * <p>
+     * If the given {@link File} does not exist, the document will be loaded from a <b>copy</b> of the defaults. If
+     * {@link LoaderSettings.Builder#setCreateFileIfAbsent(boolean) enabled}, the file will automatically be created.
+     *
+     * @param defaults defaults
+     * @param document document (does not need to {@link File#exists() exist})
+     * @param settings settings
+     * @throws IOException an IO error
+     */
+    YamlDocument(@Nullable YamlDocument defaults, @NotNull File document, @NotNull Settings... settings) throws IOException {
         //Call superclass
         super(Collections.emptyMap());
 
         //Set
         setSettingsInternal(settings);
-        setValue(generalSettings.getDefaultMap());
+        setValue(createContents(generalSettings));
         this.file = document;
-        this.defaults = defaults == null ? null : new YamlDocument(defaults, null, generalSettings, loaderSettings, dumperSettings, updaterSettings);
+        this.defaults = defaults;
         //Load
         reload();
     }
 
+    /**
+     * Creates a YAML document from the given (composed) document node, without any defaults.
+     * <p>
+     * The provided settings will be stored and used by this document. If settings of any type are not provided, their
+     * defaults (e.g. {@link GeneralSettings#DEFAULT}) are used.
+     *
+     * @param node        the document node
+     * @param constructor constructor used to construct the node contents
+     * @param settings    settings
+     */
+    private YamlDocument(@NotNull Node node, @NotNull ExtendedConstructor constructor, @NotNull Settings... settings) {
+        //Call superclass
+        super(Collections.emptyMap());
+
+        //Set
+        setSettingsInternal(settings);
+        setValue(createContents(generalSettings));
+        this.file = null;
+        this.defaults = null;
+
+        //Load
+        load(node, constructor, loaderSettings);
+    }
+
+    /**
+     * Creates an empty YAML document with the same settings as the given document. Used to build contents aside, before
+     * they are published to the given document, or to snapshot the document.
+     * <p>
+     * If the given file is the one associated with the given document, its known state is used as well.
+     *
+     * @param document the document
+     * @param file     the associated file, or <code>null</code> if none
+     * @param defaults the defaults, or <code>null</code> if none
+     */
+    private YamlDocument(@NotNull YamlDocument document, @Nullable File file, @Nullable YamlDocument defaults) {
+        //Call superclass
+        super(Collections.emptyMap());
+
+        //Set
+        setSettingsInternal(document.generalSettings, document.loaderSettings, document.dumperSettings, document.updaterSettings);
+        setValue(createContents(generalSettings));
+        this.file = file;
+        this.defaults = defaults;
+        //Init
+        replaceContents(this, null, null, null);
+        //If the same file
+        if (file != null && file == document.file) {
+            this.fileModified = document.fileModified;
+            this.fileLength = document.fileLength;
+        }
+    }
+
     /**
      * Sets the given settings internally, into their respective fields. If any of the setting fields in this document
      * instance are <code>null</code>, this method automatically uses their defaults (e.g.
@@ -157,10 +287,17 @@ public class YamlDocument extends Section {
                 if (generalSettings != null && generalSettings.getKeyFormat() != ((GeneralSettings) obj).getKeyFormat())
                     throw new IllegalArgumentException("Cannot change the key format! Recreate the file if needed to do so.");
                 this.generalSettings = (GeneralSettings) obj;
+                this.routeIndex = null;
+                this.routeKeys.clear();
+                this.convertedLists = null;
+                invalidateLoader();
+                invalidateDumper();
             } else if (obj instanceof LoaderSettings) {
                 this.loaderSettings = (LoaderSettings) obj;
+                invalidateLoader();
             } else if (obj instanceof DumperSettings) {
                 this.dumperSettings = (DumperSettings) obj;
+                invalidateDumper();
             } else if (obj instanceof UpdaterSettings) {
                 this.updaterSettings = (UpdaterSettings) obj;
             } else {
@@ -174,6 +311,25 @@ public class YamlDocument extends Section {
         this.updaterSettings = updaterSettings == null ? UpdaterSettings.DEFAULT : updaterSettings;
     }
 
+    /**
+     * Invalidates the engine components built for the associated loader (and general) settings.
+     */
+    private void invalidateLoader() {
+        engineLoadSettings = null;
+        constructor = null;
+    }
+
+    /**
+     * Invalidates the engine components built for the associated dumper (and general) settings.
+     */
+    private void invalidateDumper() {
+        //The output might differ
+        setModified(true);
+        engineDumpSettings = null;
+        anchorGenerator = null;
+        representer = null;
+    }
+
     //
     //
     //      -----------------------
@@ -221,12 +377,16 @@ public class YamlDocument extends Section {
      * @throws IOException an IO error
      */
     private void reload(@NotNull File file) throws IOException {
-        //Clear
-        clear();
+        //Frozen
+        checkFrozen();
         //If exists
         if (Objects.requireNonNull(file, "File cannot be null!").exists()) {
             //Load from the file
-            reload(new BufferedInputStream(new FileInputStream(file)));
+            try (InputStream stream = open(file)) {
+                reload(stream);
+            }
+            //Store the state
+            storeFileState();
             return;
         }
 
@@ -241,7 +401,7 @@ public class YamlDocument extends Section {
         //If there are no defaults
         if (defaults == null) {
             //Initialize empty
-            initEmpty(this);
+            replaceContents(this, null, null, null);
             return;
         }
 
@@ -255,6 +415,63 @@ public class YamlDocument extends Section {
 
         //Load the defaults
         reload(new BufferedInputStream(new ByteArrayInputStream(dump.getBytes(StandardCharsets.UTF_8))));
+        //Store the state
+        storeFileState();
+    }
+
+    /**
+     * Stores the current state (last modification time and length) of the {@link #getFile() associated file}.
+     */
+    private void storeFileState() {
+        fileModified = file.lastModified();
+        fileLength = file.length();
+    }
+
+    /**
+     * Returns if the {@link #getFile() associated file} exists and its state (last modification time and length) is
+     * the same as when it was last loaded or saved.
+     *
+     * @return if the associated file was not changed since last loaded or saved
+     */
+    private boolean isFileUnchanged() {
+        //Modification time (0 if it does not exist)
+        long modified = file.lastModified();
+        return modified != 0 && modified == fileModified && file.length() == fileLength;
+    }
+
+    /**
+     * Opens a stream reading from the given file.
+     * <p>
+     * If {@link LoaderSettings.Builder#setMemoryMapping(boolean) enabled}, maps the file into memory (the mapping is
+     * released only once garbage collected). Otherwise (or if the file is too large to be mapped), returns a buffered
+     * stream reading directly from the file channel.
+     *
+     * @param file the file to read from
+     * @return the stream
+     * @throws IOException an IO error
+     */
+    @NotNull
+    private InputStream open(@NotNull File file) throws IOException {
+        //Open
+        FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        try {
+            //If to map
+            if (loaderSettings.isMemoryMapping() && channel.size() <= Integer.MAX_VALUE) {
+                //Map (the mapping remains valid after the channel is closed)
+                try {
+                    return new MappedStream(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+                } finally {
+                    channel.close();
+                }
+            }
+
+            //Read through a buffer
+            return new BufferedInputStream(Channels.newInputStream(channel), loaderSettings.getReadBufferSize());
+        } catch (IOException | RuntimeException ex) {
+            //Close
+            channel.close();
+            throw ex;
+        }
     }
 
     /**
@@ -280,18 +497,44 @@ public class YamlDocument extends Section {
      * {@link LoaderSettings.Builder#setCreateFileIfAbsent(boolean) disabled}, the file will automatically be created
      * and saved.
      *
+     * <p>
+     * The new contents are loaded aside and replace the current ones at once, when completely loaded and
+     * {@link LoaderSettings.Builder#setAutoUpdate(boolean) updated} (if enabled). Threads reading the document
+     * concurrently therefore observe either the previous, or the new contents, never partially loaded or not yet
+     * updated ones. If the load (or update) fails, the current contents are kept. Please note that
+     * {@link UpdaterSettings.Builder#addCustomLogic(String, java.util.function.Consumer) custom logic} is then given
+     * the document holding the new contents, not this one.
+     * <p>
+     * Comments of the document itself (header and footer) are not covered by this guarantee. They are built aside as
+     * well, but replaced right after the contents, therefore, a concurrent reader (or {@link #dump()}) may observe the
+     * contents and the header and footer from different loads.
+     *
      * @param inputStream    file to reload from
      * @param loaderSettings loader settings to use
      * @throws IOException an IO error
      */
     public void reload(@NotNull InputStream inputStream, @NotNull LoaderSettings loaderSettings) throws IOException {
-        //Clear
-        clear();
+        //Frozen
+        checkFrozen();
 
-        //Create the settings
-        LoadSettings settings = Objects.requireNonNull(loaderSettings, "Loader settings cannot be null!").buildEngineSettings(generalSettings);
-        //Create the constructor
-        ExtendedConstructor constructor = new ExtendedConstructor(settings, generalSettings.getSerializer());
+        //If the associated settings
+        boolean associated = Objects.requireNonNull(loaderSettings, "Loader settings cannot be null!") == this.loaderSettings;
+        //Build the settings if not cached
+        if (associated && engineLoadSettings == null)
+            engineLoadSettings = loaderSettings.buildEngineSettings(generalSettings);
+        //Settings
+        LoadSettings settings = associated ? engineLoadSettings : loaderSettings.buildEngineSettings(generalSettings);
+        //If to update (the contents are then loaded and updated in a separate document, and published afterwards)
+        boolean update = defaults != null && loaderSettings.isAutoUpdate();
+        YamlDocument target = update ? new YamlDocument(this, file, defaults) : this;
+        //Take the cached constructor (the instance is returned only if the load succeeds), or create one
+        ExtendedConstructor constructor;
+        synchronized (this) {
+            constructor = associated ? this.constructor : null;
+            this.constructor = null;
+        }
+        if (constructor == null)
+            constructor = new ExtendedConstructor(settings, generalSettings.getSerializer(), true);
         //Create the parser and composer
         Parser parser = new ParserImpl(settings, new StreamReader(settings, new YamlUnicodeReader(Objects.requireNonNull(inputStream, "Input stream cannot be null!"))));
         Composer composer = new Composer(settings, parser);
@@ -302,19 +545,29 @@ public class YamlDocument extends Section {
             Node node = composer.next();
             //Handle
             if (composer.hasNext())
-                throw new InvalidObjectException("Multiple documents are not supported!");
-            if (!(node instanceof MappingNode))
-                throw new IllegalArgumentException(String.format("Top level object is not a map! Parsed node: %s", node.toString()));
-            //Construct
-            constructor.constructSingleDocument(Optional.of(node));
-
-            //Init
-            init(this, null, (MappingNode) node, constructor);
-            //Clear
-            constructor.clear();
+                throw new InvalidObjectException("Multiple documents are not supported! Use createAll() to load multi-document streams.");
+            //Load
+            target.load(node, constructor, loaderSettings);
         } else {
             //Init
-            initEmpty(this);
+            target.replaceContents(target, null, null, null);
+        }
+        //Not modified
+        target.setModified(false);
+
+        //Cache the constructor (unless still used by sections not loaded yet)
+        if (associated && settings == engineLoadSettings && !target.lazyContents) {
+            synchronized (this) {
+                this.constructor = constructor;
+            }
+        }
+
+        //If to update
+        if (update) {
+            //Update
+            Updater.update(target, defaults, updaterSettings, generalSettings);
+            //Publish
+            replaceContents(this, target);
         }
 
         //If enabled
@@ -326,10 +579,28 @@ public class YamlDocument extends Section {
             //Save
             save();
         }
+    }
+
+    /**
+     * Initializes the contents from the given (composed) document node.
+     * <p>
+     * If the node is not a {@link MappingNode}, an {@link IllegalArgumentException} will be thrown.
+     *
+     * @param node           the document node
+     * @param constructor    constructor used to construct the node contents
+     * @param loaderSettings loader settings to use
+     */
+    private void load(@NotNull Node node, @NotNull ExtendedConstructor constructor, @NotNull LoaderSettings loaderSettings) {
+        //Handle
+        if (!(node instanceof MappingNode))
+            throw new IllegalArgumentException(String.format("Top level object is not a map! Parsed node: %s", node.toString()));
+        //Process duplicate keys (the contents are constructed and released one by one during initialization)
+        constructor.flatten((MappingNode) node);
 
-        //Update if enabled
-        if (defaults != null && loaderSettings.isAutoUpdate())
-            Updater.update(this, defaults, updaterSettings, generalSettings);
+        //Init
+        replaceContents(this, (MappingNode) node, constructor, loaderSettings);
+        //Clear
+        constructor.clear();
     }
 
     //
@@ -370,6 +641,8 @@ public class YamlDocument extends Section {
      * @throws IOException an IO error
      */
     public boolean update(@NotNull UpdaterSettings updaterSettings) throws IOException {
+        //Frozen
+        checkFrozen();
         //If there are no defaults
         if (defaults == null)
             return false;
@@ -408,9 +681,167 @@ public class YamlDocument extends Section {
      * @throws IOException an IO error
      */
     public void update(@NotNull InputStream defaults, @NotNull UpdaterSettings updaterSettings) throws IOException {
+        //Frozen
+        checkFrozen();
+        //Update
         Updater.update(this, YamlDocument.create(Objects.requireNonNull(defaults, "Defaults cannot be null!"), generalSettings, loaderSettings, dumperSettings, UpdaterSettings.DEFAULT), Objects.requireNonNull(updaterSettings, "Updater settings cannot be null!"), generalSettings);
     }
 
+    /**
+     * Freezes this document, making its contents (including comments) immutable; the operation is irreversible.
+     * <p>
+     * Any further attempt to modify the contents (e.g. by {@link #set(Route, Object)}, {@link #remove(Route)},
+     * {@link #reload()}, {@link #update()}, or by modifying the stored maps or comments directly) will result in an
+     * {@link UnsupportedOperationException}. Frozen blocks also cannot be set into other documents.
+     * <p>
+     * A frozen document can safely be shared as the defaults by any number of documents (including ones used by
+     * multiple threads), see {@link #create(File, YamlDocument, Settings...)}. Please note that the stored values of
+     * terminated blocks (e.g. a {@link List}) are not copied, nor made immutable, and must not be modified.
+     */
+    @Override
+    public void freeze() {
+        super.freeze();
+        //Build the index now, as it cannot be built concurrently
+        getRouteIndex(true);
+    }
+
+    /**
+     * Creates an immutable snapshot of this document - a {@link #freeze() frozen} copy of the current contents
+     * (including comments), with the same settings and defaults (if the defaults are not frozen, a snapshot of them is
+     * used instead).
+     * <p>
+     * The snapshot is not associated with any file and is not affected by any later changes made to this document. As
+     * it is frozen, any number of threads can read it concurrently, without any synchronization. To share the
+     * configuration with reader threads, take a snapshot after each change (e.g. after {@link #reload()}) and publish it
+     * via a <code>volatile</code> field (or an {@link java.util.concurrent.atomic.AtomicReference}).
+     * <p>
+     * The snapshot is created by copying the structure (sections, blocks and comments) into a new document directly,
+     * while the values are copied without changing their types (see {@link Merger#deepClone(Block, Section,
+     * UpdaterSettings)}); this document must not be modified concurrently while doing so.
+     *
+     * @return the snapshot
+     */
+    @NotNull
+    public YamlDocument snapshot() {
+        //Defaults
+        YamlDocument defaults = this.defaults == null || this.defaults.isFrozen() ? this.defaults : this.defaults.snapshot();
+        //Create
+        YamlDocument snapshot = new YamlDocument(this, null, defaults);
+        //Copy the comments
+        for (NodeRole role : NodeRole.values())
+            for (Comments.Position position : Comments.Position.values())
+                Comments.set(snapshot, role, position, Comments.get(this, role, position));
+        //Clone all blocks
+        for (Map.Entry<Object, Block<?>> entry : getStoredValue().entrySet())
+            snapshot.getStoredValue().put(entry.getKey(), Merger.deepClone(entry.getValue(), snapshot, updaterSettings));
+        //Not modified
+        snapshot.setModified(false);
+        //Freeze
+        snapshot.freeze();
+        return snapshot;
+    }
+
+    @Override
+    public Map<Object, Block<?>> getStoredValue() {
+        //Replaced contents
+        Map<Object, Block<?>> contents = this.contents;
+        return contents != null ? contents : super.getStoredValue();
+    }
+
+    @Override
+    public void setValue(Map<Object, Block<?>> value) {
+        super.setValue(value);
+        //Publish
+        this.contents = value;
+    }
+
+    @Override
+    protected void replaceContents(@NotNull YamlDocument root, @Nullable MappingNode valueNode, @Nullable ExtendedConstructor constructor, @Nullable LoaderSettings loaderSettings) {
+        //If to load lazily (the index is disabled in advance, so it is never built over the new contents if lazy)
+        boolean lazy = valueNode != null && loaderSettings != null && loaderSettings.isLazySections(), previous = lazyContents;
+        lazyContents = previous || lazy;
+        try {
+            super.replaceContents(root, valueNode, constructor, loaderSettings);
+        } catch (RuntimeException | Error ex) {
+            //Previous contents kept
+            lazyContents = previous;
+            throw ex;
+        }
+        lazyContents = lazy;
+        //Index of the previous contents
+        routeIndex = null;
+        //Conversions of the previous contents
+        convertedLists = null;
+    }
+
+    @Override
+    protected void replaceContents(@NotNull YamlDocument root, @NotNull YamlDocument source) {
+        //If loaded lazily (the index is disabled in advance, so it is never built over the new contents if lazy)
+        lazyContents |= source.lazyContents;
+        super.replaceContents(root, source);
+        lazyContents = source.lazyContents;
+        //Index of the previous contents
+        routeIndex = null;
+        //Conversions of the previous contents
+        convertedLists = null;
+        //State of the file (if saved by the source)
+        fileModified = source.fileModified;
+        fileLength = source.fileLength;
+    }
+
+    @Override
+    @Nullable
+    protected Map<String, Block<?>> getRouteIndex(boolean build) {
+        //If disabled
+        if (generalSettings == null || !generalSettings.isRouteIndex() || generalSettings.isThreadSafe() || generalSettings.getKeyFormat() != GeneralSettings.KeyFormat.STRING || lazyContents)
+            return null;
+        //Contents and their index
+        Map<Object, Block<?>> contents = getStoredValue();
+        RouteIndex index = routeIndex;
+        //If built from the current contents
+        if (index != null && index.contents == contents)
+            return index.index;
+        //If not to build
+        if (!build)
+            return null;
+
+        //Build
+        Map<String, Block<?>> built = buildRouteIndex();
+        //Store if the contents were not replaced in the meantime (the index might be of the new ones)
+        if (getStoredValue() == contents)
+            routeIndex = new RouteIndex(contents, built);
+        return built;
+    }
+
+    @Override
+    @NotNull
+    protected String[] getRouteKeys(@NotNull String route) {
+        //Cached
+        String[] keys = routeKeys.get(route);
+        if (keys != null)
+            return keys;
+
+        //Split
+        keys = super.getRouteKeys(route);
+        //Cache if not full
+        if (routeKeys.size() < MAX_CACHED_ROUTES)
+            routeKeys.put(route, keys);
+        return keys;
+    }
+
+    @Override
+    @Nullable
+    protected Map<Block<?>, ConvertedList> getConvertedLists() {
+        //If disabled
+        if (generalSettings == null || !generalSettings.isCacheListConversions())
+            return null;
+        //Create (blocks do not override equals, therefore are compared by identity)
+        Map<Block<?>, ConvertedList> cache = convertedLists;
+        if (cache == null)
+            convertedLists = cache = Collections.synchronizedMap(new WeakHashMap<>());
+        return cache;
+    }
+
     //
     //
     //      -----------------------
@@ -448,38 +879,183 @@ public class YamlDocument extends Section {
     /**
      * Saves the contents to the given file using the associated {@link #getDumperSettings() dumper} and
      * {@link #getGeneralSettings() general} settings, in {@link StandardCharsets#UTF_8 UTF-8} charset.
+     * <p>
+     * If {@link DumperSettings.Builder#setAtomicSave(boolean) enabled}, the contents are written to a temporary file
+     * first, which then atomically replaces the given file. Otherwise, the file is overwritten directly.
+     * <p>
+     * If {@link DumperSettings.Builder#setIncrementalSave(boolean) enabled}, saving to the
+     * {@link #getFile() associated file} is skipped if the document was not {@link #isModified() modified} (and the
+     * file was not changed) since it was last loaded or saved.
      *
      * @param file file to save to
      * @throws IOException an IO error
      */
     public void save(@NotNull File file) throws IOException {
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, false), StandardCharsets.UTF_8))) {
+        //If the associated file
+        boolean associated = file.equals(this.file);
+        //Skip if not modified
+        if (associated && dumperSettings.isIncrementalSave() && !isModified() && isFileUnchanged())
+            return;
+
+        //Save
+        if (dumperSettings.isAtomicSave())
+            saveAtomic(file);
+        else
+            try (FileOutputStream stream = new FileOutputStream(file, false)) {
+                save(stream);
+            }
+
+        //If the associated file
+        if (associated) {
+            //Not modified
+            setModified(false);
+            //Store the state
+            storeFileState();
+        }
+    }
+
+    /**
+     * Saves the contents to a temporary file first, which then atomically replaces the given file. If the file system
+     * does not support atomic moves, the temporary file replaces the given file using a regular (non-atomic) move.
+     * <p>
+     * If the file is a symbolic link, the file it points to is replaced instead of the link. The replaced file keeps
+     * its permissions (where supported by the platform); new files are created with the default permissions, as if
+     * saved non-atomically.
+     * <p>
+     * If {@link DumperSettings.Builder#setSync(boolean) enabled}, the parent directory is also synced once the file is
+     * replaced, so that the replacement survives a system crash.
+     *
+     * @param file file to save to
+     * @throws IOException an IO error
+     */
+    private void saveAtomic(@NotNull File file) throws IOException {
+        //Target (the file itself, not a link to it)
+        Path target = file.toPath().toAbsolutePath();
+        boolean exists = Files.exists(target);
+        if (exists)
+            target = target.toRealPath();
+
+        //Temporary file
+        Path temp = createTempFile(target);
+        try {
+            //Keep permissions of the target
+            if (exists) {
+                try {
+                    Files.setPosixFilePermissions(temp, Files.getPosixFilePermissions(target));
+                } catch (UnsupportedOperationException ignored) {
+                }
+            }
+
             //Save
-            writer.write(dump());
+            try (FileOutputStream stream = new FileOutputStream(temp.toFile(), false)) {
+                save(stream);
+            }
+
+            //Replace
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                //Not atomic
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            //Sync the directory entry
+            if (dumperSettings.isSync())
+                syncDirectory(target.getParent());
+        } finally {
+            //Delete if not moved
+            Files.deleteIfExists(temp);
         }
     }
 
+    /**
+     * Creates a new, empty temporary file next to the given target. Unlike {@link Files#createTempFile(Path, String,
+     * String, java.nio.file.attribute.FileAttribute[])}, which restricts the permissions to the owner, the file is
+     * created with the default permissions (as if by {@link FileOutputStream}).
+     *
+     * @param target the target file
+     * @return the temporary file
+     * @throws IOException an IO error
+     */
+    @NotNull
+    private static Path createTempFile(@NotNull Path target) throws IOException {
+        //Until created
+        while (true) {
+            try {
+                return Files.createFile(target.resolveSibling("." + target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp"));
+            } catch (FileAlreadyExistsException ignored) {
+            }
+        }
+    }
+
+    /**
+     * Forces the entries of the given directory to the storage device. As not all platforms support opening (and
+     * syncing) directories, any {@link IOException} is ignored.
+     *
+     * @param directory the directory to sync
+     */
+    private void syncDirectory(@NotNull Path directory) {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * Saves the contents to the given file stream using the associated {@link #getDumperSettings() dumper} and
+     * {@link #getGeneralSettings() general} settings, in {@link StandardCharsets#UTF_8 UTF-8} charset. Syncs the file
+     * if {@link DumperSettings.Builder#setSync(boolean) enabled}.
+     * <p>
+     * The stream is not closed.
+     *
+     * @param stream file stream to save to
+     * @throws IOException an IO error
+     */
+    private void save(@NotNull FileOutputStream stream) throws IOException {
+        //Writer
+        Writer writer = new BufferedWriter(new OutputStreamWriter(stream, StandardCharsets.UTF_8), dumperSettings.getBufferSize());
+        //Save
+        dump(writer);
+        writer.flush();
+
+        //Sync
+        if (dumperSettings.isSync())
+            stream.getFD().sync();
+    }
+
     /**
      * Saves the contents to the given stream using the associated {@link #getDumperSettings() dumper} and
      * {@link #getGeneralSettings() general} settings, in the given charset.
+     * <p>
+     * The contents are streamed directly into the given stream, which is flushed, but not closed.
      *
      * @param stream  stream to save to
      * @param charset charset to use
      * @throws IOException an IO error
      */
     public void save(@NotNull OutputStream stream, Charset charset) throws IOException {
-        stream.write(dump().getBytes(charset));
+        //Writer
+        Writer writer = new BufferedWriter(new OutputStreamWriter(stream, charset));
+        //Save
+        dump(writer);
+        writer.flush();
     }
 
     /**
      * Saves the contents to the given writer using the associated {@link #getDumperSettings() dumper} and
      * {@link #getGeneralSettings() general} settings.
+     * <p>
+     * The contents are streamed directly into the given writer, which is flushed, but not closed.
      *
      * @param writer writer to save to
      * @throws IOException an IO error
      */
     public void save(@NotNull OutputStreamWriter writer) throws IOException {
-        writer.write(dump());
+        //Buffer
+        Writer buffered = new BufferedWriter(writer);
+        //Save
+        dump(buffered);
+        buffered.flush();
     }
 
     /**
@@ -500,13 +1076,100 @@ public class YamlDocument extends Section {
      * @return the dumped contents
      */
     public String dump(@NotNull DumperSettings dumperSettings) {
-        //Create the settings
-        DumpSettings settings = dumperSettings.buildEngineSettings();
         //Output
         SerializedStream stream = new SerializedStream();
-        //Create the representer
-        BaseRepresenter representer = new ExtendedRepresenter(this.getClass(), generalSettings, dumperSettings, settings);
+        //Dump
+        dumpInternal(stream, dumperSettings);
+        //Return
+        return stream.toString();
+    }
 
+    /**
+     * Dumps the contents directly into the given writer using the associated {@link #getDumperSettings() dumper} and
+     * {@link #getGeneralSettings() general} settings.
+     * <p>
+     * The contents are not collected into an intermediate string; for best performance, the given writer should be
+     * buffered. The writer is neither flushed, nor closed.
+     *
+     * @param writer writer to dump to
+     * @throws IOException an IO error
+     */
+    public void dump(@NotNull Writer writer) throws IOException {
+        dump(writer, dumperSettings);
+    }
+
+    /**
+     * Dumps the contents directly into the given writer using the given dumper and associated
+     * {@link #getGeneralSettings() general} settings.
+     * <p>
+     * The contents are not collected into an intermediate string; for best performance, the given writer should be
+     * buffered. The writer is neither flushed, nor closed.
+     *
+     * @param writer         writer to dump to
+     * @param dumperSettings dumper settings to use
+     * @throws IOException an IO error
+     */
+    public void dump(@NotNull Writer writer, @NotNull DumperSettings dumperSettings) throws IOException {
+        try {
+            //Dump
+            dumpInternal(new WriterStream(Objects.requireNonNull(writer, "Writer cannot be null!")), dumperSettings);
+        } catch (UncheckedIOException ex) {
+            //Rethrow the cause
+            throw ex.getCause();
+        }
+    }
+
+    /**
+     * Dumps the contents into the given stream using the given dumper and associated
+     * {@link #getGeneralSettings() general} settings.
+     *
+     * @param stream         stream to dump to
+     * @param dumperSettings dumper settings to use
+     */
+    private void dumpInternal(@NotNull StreamDataWriter stream, @NotNull DumperSettings dumperSettings) {
+        //If the associated settings
+        if (dumperSettings == this.dumperSettings) {
+            //Components are shared by all dumps (the document might be shared as defaults)
+            synchronized (this) {
+                //Amount of types supported by the serializer (more might have been registered since the representer was created)
+                int types = generalSettings.getSerializer().getSupportedClasses().size() + generalSettings.getSerializer().getSupportedParentClasses().size();
+                //Build if not cached
+                if (engineDumpSettings == null) {
+                    anchorGenerator = new SuppliedAnchorGenerator(dumperSettings.getAnchorGenerator());
+                    engineDumpSettings = dumperSettings.buildEngineSettings(anchorGenerator);
+                }
+                if (this.representer == null || representedTypes != types) {
+                    this.representer = new ExtendedRepresenter(this.getClass(), generalSettings, dumperSettings, engineDumpSettings);
+                    representedTypes = types;
+                }
+
+                //Dump
+                anchorGenerator.reset();
+                try {
+                    dumpInternal(stream, engineDumpSettings, this.representer);
+                } catch (RuntimeException | Error ex) {
+                    //The representer keeps the objects represented so far if failed
+                    this.representer = null;
+                    throw ex;
+                }
+            }
+            return;
+        }
+
+        //Create the settings
+        DumpSettings settings = dumperSettings.buildEngineSettings();
+        //Dump
+        dumpInternal(stream, settings, new ExtendedRepresenter(this.getClass(), generalSettings, dumperSettings, settings));
+    }
+
+    /**
+     * Dumps the contents into the given stream using the given engine settings and representer.
+     *
+     * @param stream      stream to dump to
+     * @param settings    engine settings to use
+     * @param representer representer to use
+     */
+    private void dumpInternal(@NotNull StreamDataWriter stream, @NotNull DumpSettings settings, @NotNull BaseRepresenter representer) {
         //Serializer
         Serializer serializer = new Serializer(settings, new Emitter(settings, stream));
         serializer.emitStreamStart();
@@ -514,9 +1177,6 @@ public class YamlDocument extends Section {
         serializer.serializeDocument(representer.represent(this));
         //Close
         serializer.emitStreamEnd();
-
-        //Return
-        return stream.toString();
     }
 
     //
@@ -562,6 +1222,7 @@ public class YamlDocument extends Section {
     @Deprecated
     public void setLoaderSettings(@NotNull LoaderSettings loaderSettings) {
         this.loaderSettings = loaderSettings;
+        invalidateLoader();
     }
 
     /**
@@ -572,6 +1233,7 @@ public class YamlDocument extends Section {
      */
     public void setDumperSettings(@NotNull DumperSettings dumperSettings) {
         this.dumperSettings = dumperSettings;
+        invalidateDumper();
     }
 
     /**
@@ -594,6 +1256,11 @@ public class YamlDocument extends Section {
             throw new IllegalArgumentException("Cannot change key format! Recreate the file if needed to do so.");
         //Set
         this.generalSettings = generalSettings;
+        this.routeIndex = null;
+        this.routeKeys.clear();
+        this.convertedLists = null;
+        invalidateLoader();
+        invalidateDumper();
     }
 
     /**
@@ -750,6 +1417,78 @@ public class YamlDocument extends Section {
         return new YamlDocument(document, defaults, settings);
     }
 
+    /**
+     * Creates and loads a YAML document from the given file, using the given, already loaded, defaults (later
+     * accessible via {@link #getDefaults()}).
+     * <p>
+     * The defaults must be {@link #freeze() frozen}, otherwise, an {@link IllegalArgumentException} will be thrown. As
+     * they are never modified, the same instance can be shared by any number of documents, without each of them holding
+     * its own copy of the defaults.
+     * <p>
+     * The provided settings will be stored and used by this document. You can overwrite them using
+     * {@link #setSettings(Settings...)}). If settings of any type are not provided, their defaults (e.g.
+     * {@link GeneralSettings#DEFAULT}) are used.
+     * <p>
+     * If any of the given objects is not an instance of {@link GeneralSettings}, {@link LoaderSettings},
+     * {@link DumperSettings} nor {@link UpdaterSettings}, an {@link IllegalArgumentException} will be thrown. If there
+     * are multiple instances of the same settings type, the last one will take effect.
+     * <p>
+     * If the given {@link File} does not exist, the document will be loaded from a <b>copy</b> of the defaults. If
+     * {@link LoaderSettings.Builder#setCreateFileIfAbsent(boolean) enabled}, the file will automatically be created.
+     *
+     * @param document document (does not need to {@link File#exists() exist})
+     * @param defaults the frozen defaults
+     * @param settings settings
+     * @return the created and loaded document
+     * @throws IOException an IO error
+     */
+    public static YamlDocument create(@NotNull File document, @NotNull YamlDocument defaults, @NotNull Settings... settings) throws IOException {
+        return new YamlDocument(requireFrozen(defaults), document, settings);
+    }
+
+    /**
+     * Creates and loads a YAML document from the given stream, using the given, already loaded, defaults (later
+     * accessible via {@link #getDefaults()}).
+     * <p>
+     * The defaults must be {@link #freeze() frozen}, otherwise, an {@link IllegalArgumentException} will be thrown. As
+     * they are never modified, the same instance can be shared by any number of documents, without each of them holding
+     * its own copy of the defaults.
+     * <p>
+     * The provided settings will be stored and used by this document. You can overwrite them using
+     * {@link #setSettings(Settings...)}). If settings of any type are not provided, their defaults (e.g.
+     * {@link GeneralSettings#DEFAULT}) are used.
+     * <p>
+     * If any of the given objects is not an instance of {@link GeneralSettings}, {@link LoaderSettings},
+     * {@link DumperSettings} nor {@link UpdaterSettings}, an {@link IllegalArgumentException} will be thrown. If there
+     * are multiple instances of the same settings type, the last one will take effect.
+     * <p>
+     * <b>Please note that methods without an I/O parameter will not be usable.</b> Refer to the method documentation
+     * for more information.
+     *
+     * @param document document
+     * @param defaults the frozen defaults
+     * @param settings settings
+     * @return the created and loaded document
+     * @throws IOException an IO error
+     */
+    public static YamlDocument create(@NotNull InputStream document, @NotNull YamlDocument defaults, @NotNull Settings... settings) throws IOException {
+        return new YamlDocument(requireFrozen(defaults), document, settings);
+    }
+
+    /**
+     * Validates that the given defaults are {@link #freeze() frozen} and returns them. Throws an
+     * {@link IllegalArgumentException} otherwise.
+     *
+     * @param defaults the defaults to validate
+     * @return the given defaults
+     */
+    @NotNull
+    private static YamlDocument requireFrozen(@NotNull YamlDocument defaults) {
+        if (!Objects.requireNonNull(defaults, "Defaults cannot be null!").isFrozen())
+            throw new IllegalArgumentException("Shared defaults must be frozen!");
+        return defaults;
+    }
+
     /**
      * Creates and loads a YAML document from the given file. The returned document will not have any defaults.
      * <p>
@@ -796,10 +1535,257 @@ public class YamlDocument extends Section {
         return new YamlDocument(document, null, settings);
     }
 
+    /**
+     * Returns an iterator lazily loading YAML documents one by one from the given multi-document stream (documents are
+     * separated by <code>---</code>). The returned documents will not have any defaults.
+     * <p>
+     * Each document is composed and loaded only once requested by {@link Iterator#next()}, therefore, only one document
+     * is held in memory by the iterator at a time. Errors encountered while loading (including documents, whose top
+     * level object is not a map) are thrown by the iterator as unchecked exceptions. The stream is not closed by the
+     * iterator.
+     * <p>
+     * The provided settings will be stored and used by all the documents. If settings of any type are not provided,
+     * their defaults (e.g. {@link GeneralSettings#DEFAULT}) are used.
+     * <p>
+     * If any of the given objects is not an instance of {@link GeneralSettings}, {@link LoaderSettings},
+     * {@link DumperSettings} nor {@link UpdaterSettings}, an {@link IllegalArgumentException} will be thrown. If there
+     * are multiple instances of the same settings type, the last one will take effect.
+     * <p>
+     * <b>Please note that methods without an I/O parameter will not be usable on the returned documents.</b> Refer to
+     * the method documentation for more information.
+     *
+     * @param stream   multi-document stream
+     * @param settings settings
+     * @return the iterator
+     */
+    public static Iterator<YamlDocument> createAll(@NotNull InputStream stream, @NotNull Settings... settings) {
+        return new DocumentIterator(Objects.requireNonNull(stream, "Input stream cannot be null!"), settings);
+    }
+
+    /**
+     * Returns a sequential stream lazily loading YAML documents one by one from the given multi-document stream. The
+     * returned documents will not have any defaults.
+     * <p>
+     * Please see {@link #createAll(InputStream, Settings...)} for more information.
+     *
+     * @param stream   multi-document stream
+     * @param settings settings
+     * @return the stream of documents
+     * @see #createAll(InputStream, Settings...)
+     */
+    public static Stream<YamlDocument> streamAll(@NotNull InputStream stream, @NotNull Settings... settings) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(createAll(stream, settings), Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
     /**
      * An implementation of {@link StreamDataWriter} used to write to a string.
      */
     private static class SerializedStream extends StringWriter implements StreamDataWriter {
     }
 
+    /**
+     * An iterator lazily loading documents from a multi-document stream.
+     */
+    private static class DocumentIterator implements Iterator<YamlDocument> {
+
+        // Settings
+        private final Settings[] settings;
+        private final LoadSettings engineSettings;
+        private final YamlSerializer serializer;
+        // Constructor (if shared by all the documents) and composer
+        private final ExtendedConstructor constructor;
+        private final Composer composer;
+
+        /**
+         * Creates an iterator loading documents from the given stream.
+         *
+         * @param stream   the stream to load from
+         * @param settings settings
+         */
+        private DocumentIterator(@NotNull InputStream stream, @NotNull Settings... settings) {
+            //Settings
+            GeneralSettings generalSettings = GeneralSettings.DEFAULT;
+            LoaderSettings loaderSettings = LoaderSettings.DEFAULT;
+            for (Settings obj : settings) {
+                if (obj instanceof GeneralSettings)
+                    generalSettings = (GeneralSettings) obj;
+                else if (obj instanceof LoaderSettings)
+                    loaderSettings = (LoaderSettings) obj;
+                else if (!(obj instanceof DumperSettings) && !(obj instanceof UpdaterSettings))
+                    throw new IllegalArgumentException("Unknown settings object!");
+            }
+
+            //Create the settings
+            LoadSettings engineSettings = loaderSettings.buildEngineSettings(generalSettings);
+            //Set
+            this.settings = settings;
+            this.engineSettings = engineSettings;
+            this.serializer = generalSettings.getSerializer();
+            //Sections not loaded yet use the constructor of their document, which cannot be shared
+            this.constructor = loaderSettings.isLazySections() ? null : new ExtendedConstructor(engineSettings, serializer, true);
+            this.composer = new Composer(engineSettings, new ParserImpl(engineSettings, new StreamReader(engineSettings, new YamlUnicodeReader(stream))));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return composer.hasNext();
+        }
+
+        @Override
+        public YamlDocument next() {
+            //If there is no next document
+            if (!composer.hasNext())
+                throw new NoSuchElementException("There are no more documents!");
+            //Load
+            return new YamlDocument(composer.next(), constructor != null ? constructor : new ExtendedConstructor(engineSettings, serializer, true), settings);
+        }
+    }
+
+    /**
+     * An anchor generator delegating to generators obtained from the given supplier, allowing the engine settings to be
+     * reused across dumps while still using a brand new generator for each dump.
+     */
+    private static class SuppliedAnchorGenerator implements AnchorGenerator {
+
+        // The supplier
+        private final Supplier<AnchorGenerator> supplier;
+        // The current generator
+        private AnchorGenerator generator;
+
+        /**
+         * Creates a generator delegating to generators obtained from the given supplier.
+         *
+         * @param supplier the generator supplier
+         */
+        private SuppliedAnchorGenerator(@NotNull Supplier<AnchorGenerator> supplier) {
+            this.supplier = supplier;
+            reset();
+        }
+
+        /**
+         * Obtains a new generator to delegate to. Must be called before each dump.
+         */
+        private void reset() {
+            generator = supplier.get();
+        }
+
+        @Override
+        public Anchor nextAnchor(Node node) {
+            return generator.nextAnchor(node);
+        }
+    }
+
+    /**
+     * Route index, along with the contents it was built from. Readers use the index only if built from the current
+     * contents, so an index built concurrently with a replacement of the contents is never used for the new ones.
+     */
+    private static final class RouteIndex {
+
+        // Contents the index was built from
+        private final Map<Object, Block<?>> contents;
+        // The index
+        private final Map<String, Block<?>> index;
+
+        /**
+         * Creates a route index.
+         *
+         * @param contents contents the index was built from
+         * @param index    the index
+         */
+        private RouteIndex(@NotNull Map<Object, Block<?>> contents, @NotNull Map<String, Block<?>> index) {
+            this.contents = contents;
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * An input stream reading from a (memory-mapped) byte buffer.
+     */
+    private static class MappedStream extends InputStream {
+
+        // The buffer
+        private final ByteBuffer buffer;
+
+        /**
+         * Creates a stream reading from the given buffer.
+         *
+         * @param buffer buffer to read from
+         */
+        private MappedStream(@NotNull ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int off, int len) {
+            //If there is nothing to read
+            if (len == 0)
+                return 0;
+            if (!buffer.hasRemaining())
+                return -1;
+
+            //Read
+            len = Math.min(len, buffer.remaining());
+            buffer.get(bytes, off, len);
+            return len;
+        }
+
+        @Override
+        public long skip(long n) {
+            //Skip
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
+    /**
+     * A stream data writer writing directly into the given writer.
+     * <p>
+     * As {@link StreamDataWriter} does not permit checked exceptions, any {@link IOException} is wrapped in an
+     * {@link UncheckedIOException}.
+     */
+    private static class WriterStream implements StreamDataWriter {
+
+        // The writer
+        private final Writer writer;
+
+        /**
+         * Creates a stream writing into the given writer.
+         *
+         * @param writer writer to write into
+         */
+        private WriterStream(@NotNull Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(String str) {
+            try {
+                writer.write(str);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            try {
+                writer.write(str, off, len);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+
 }
\ No newline at end of file
@@ -28,6 +28,7 @@ import org.snakeyaml.engine.v2.nodes.NodeTuple;
 import org.snakeyaml.engine.v2.nodes.SequenceNode;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,13 +40,17 @@ import java.util.stream.Collectors;
 @SuppressWarnings({"unused", "UnusedReturnValue"})
 public abstract class Block<T> {
 
-    //Comments
+    //Comments (allocated only if there are any)
     @Nullable
-    List<CommentLine> beforeKeyComments = null, inlineKeyComments = null, afterKeyComments = null, beforeValueComments = null, inlineValueComments = null, afterValueComments = null;
+    private CommentStorage comments = null;
     //Value
     private T value;
     //If to ignore
     private boolean ignored;
+    //If frozen
+    private boolean frozen;
+    //If modified
+    private boolean modified;
 
     /**
      * Creates a block using the given parameters; while storing references to comments from the given nodes.
@@ -86,12 +91,8 @@ public abstract class Block<T> {
             return;
 
         //Set
-        this.beforeKeyComments = previous.beforeKeyComments;
-        this.inlineKeyComments = previous.inlineKeyComments;
-        this.afterKeyComments = previous.afterKeyComments;
-        this.beforeValueComments = previous.beforeValueComments;
-        this.inlineValueComments = previous.inlineValueComments;
-        this.afterValueComments = previous.afterValueComments;
+        if (previous.comments != null)
+            this.comments = new CommentStorage(previous.comments);
     }
 
     /**
@@ -102,46 +103,86 @@ public abstract class Block<T> {
      * @param key   node which represents the key to the block
      * @param value node which represents the value
      */
-    @SuppressWarnings("ConstantConditions")
     protected void init(@Nullable Node key, @Nullable Node value) {
-        //If not null
-        if (key != null) {
-            // Set
-            beforeKeyComments = key.getBlockComments() == null ? new ArrayList<>(0) : key.getBlockComments();
-            inlineKeyComments = key.getInLineComments();
-            afterKeyComments = key.getEndComments();
-            // Collect
-            collectComments(key, beforeKeyComments, true);
-        }
+        this.comments = init(this.comments, key, value);
+    }
+
+    /**
+     * Replaces comments of this block with comments from the given nodes, like {@link #init(Node, Node)}, however, the
+     * comments are stored in a new storage, which then replaces the current one at once. Comments at nodes which are
+     * <code>null</code> are kept. Does not check if the block is frozen, nor mark it as modified.
+     *
+     * @param key   node which represents the key to the block
+     * @param value node which represents the value
+     */
+    protected void replaceComments(@Nullable Node key, @Nullable Node value) {
+        this.comments = init(comments == null ? null : new CommentStorage(comments), key, value);
+    }
+
+    /**
+     * Replaces comments of this block with the comments of the given block. The comments are stored in a new storage,
+     * which then replaces the current one at once. Does not check if the block is frozen, nor mark it as modified.
+     *
+     * @param source the block whose comments to reference
+     */
+    protected void replaceComments(@NotNull Block<?> source) {
+        this.comments = source.comments == null ? null : new CommentStorage(source.comments);
+    }
 
+    /**
+     * Stores comments from the given nodes into the given storage.
+     *
+     * @param storage the storage to store into, or <code>null</code> if not allocated yet
+     * @param key     node which represents the key to the block
+     * @param value   node which represents the value
+     * @return the storage, or <code>null</code> if there are no comments
+     */
+    @Nullable
+    private CommentStorage init(@Nullable CommentStorage storage, @Nullable Node key, @Nullable Node value) {
         //If not null
-        if (value != null) {
-            // Set
-            beforeValueComments = value.getBlockComments() == null ? new ArrayList<>(0) : value.getBlockComments();
-            inlineValueComments = value.getInLineComments();
-            afterValueComments = value.getEndComments();
-            // Collect
-            collectComments(value, beforeValueComments, true);
-        }
+        if (key != null)
+            storage = init(storage, NodeRole.KEY, key);
+        //If not null
+        if (value != null)
+            storage = init(storage, NodeRole.VALUE, value);
+        return storage;
     }
 
     /**
-     * Collects all comments from this (only if not the initial node) and all sub-nodes and assigns them to the provided
+     * Stores comments from the given node, attached to the given node role, into the given storage. Empty comment lists
+     * are not stored.
+     *
+     * @param storage the storage to store into, or <code>null</code> if not allocated yet
+     * @param role    the role of the node
+     * @param node    the node to store comments from
+     * @return the storage, or <code>null</code> if there are no comments
+     */
+    @Nullable
+    private CommentStorage init(@Nullable CommentStorage storage, @NotNull NodeRole role, @NotNull Node node) {
+        // Set
+        storage = setCommentLines(storage, role, Comments.Position.BEFORE, collectComments(node, nonEmpty(node.getBlockComments()), true));
+        storage = setCommentLines(storage, role, Comments.Position.INLINE, nonEmpty(node.getInLineComments()));
+        return setCommentLines(storage, role, Comments.Position.AFTER, nonEmpty(node.getEndComments()));
+    }
+
+    /**
+     * Collects all comments from this (only if not the initial node) and all sub-nodes and adds them to the provided
      * destination list. Inline comments are automatically converted to block comments.
+     * <p>
+     * If the destination list is <code>null</code>, it is allocated only once there are comments to add.
      *
      * @param node        the node to collect from
      * @param destination the destination list
      * @param initial     if this node is the initial one in the recursive call stack
+     * @return the destination list
      */
-    private void collectComments(@NotNull Node node, @NotNull List<CommentLine> destination, boolean initial) {
+    @Nullable
+    private List<CommentLine> collectComments(@NotNull Node node, @Nullable List<CommentLine> destination, boolean initial) {
         // Add
         if (!initial) {
-            if (node.getBlockComments() != null)
-                destination.addAll(toBlockComments(node.getBlockComments()));
-            if (node.getInLineComments() != null)
-                destination.addAll(toBlockComments(node.getInLineComments()));
-            if (node.getEndComments() != null)
-                destination.addAll(toBlockComments(node.getEndComments()));
+            destination = addComments(destination, node.getBlockComments());
+            destination = addComments(destination, node.getInLineComments());
+            destination = addComments(destination, node.getEndComments());
         }
 
         // If is a sequence node
@@ -151,17 +192,101 @@ public abstract class Block<T> {
             // Iterate
             for (Node sub : sequenceNode.getValue())
                 // Collect
-                collectComments(sub, destination, false);
+                destination = collectComments(sub, destination, false);
         } else if (!initial && node instanceof MappingNode) {
             // The node
             MappingNode mappingNode = (MappingNode) node;
             // Iterate
             for (NodeTuple sub : mappingNode.getValue()) {
                 // Collect
-                collectComments(sub.getKeyNode(), destination, false);
-                collectComments(sub.getValueNode(), destination, false);
+                destination = collectComments(sub.getKeyNode(), destination, false);
+                destination = collectComments(sub.getValueNode(), destination, false);
             }
         }
+
+        return destination;
+    }
+
+    /**
+     * Adds the given comments, {@link #toBlockComments(List) converted} to block comments, to the destination list. If
+     * the destination list is <code>null</code> and there are comments to add, a new list is allocated.
+     *
+     * @param destination the destination list
+     * @param comments    the comments to add
+     * @return the destination list
+     */
+    @Nullable
+    private List<CommentLine> addComments(@Nullable List<CommentLine> destination, @Nullable List<CommentLine> comments) {
+        //Nothing to add
+        if (comments == null || comments.isEmpty())
+            return destination;
+        //Allocate
+        if (destination == null)
+            destination = new ArrayList<>(comments.size());
+        //Add
+        destination.addAll(toBlockComments(comments));
+        return destination;
+    }
+
+    /**
+     * Returns the given comments, or <code>null</code> if the list is <code>null</code> or empty.
+     *
+     * @param comments the comments
+     * @return the given comments, or <code>null</code> if empty
+     */
+    @Nullable
+    private static List<CommentLine> nonEmpty(@Nullable List<CommentLine> comments) {
+        return comments == null || comments.isEmpty() ? null : comments;
+    }
+
+    /**
+     * Returns comments at the given position, or <code>null</code> if there are none. Used only internally - please use
+     * {@link Comments#get(Block, NodeRole, Comments.Position)} instead.
+     *
+     * @param node     node from which to retrieve comments
+     * @param position position of the retrieved comments
+     * @return the comments
+     */
+    @Nullable
+    List<CommentLine> getCommentLines(@NotNull NodeRole node, @NotNull Comments.Position position) {
+        return comments == null ? null : comments.get(node, position);
+    }
+
+    /**
+     * Sets comments at the given position, allocating (or releasing) the comment storage as needed. Does not check if
+     * the block is frozen, nor mark it as modified. Used only internally - please use
+     * {@link Comments#set(Block, NodeRole, Comments.Position, List)} instead.
+     *
+     * @param node     node to attach to
+     * @param position position at which to set
+     * @param comments the comments to set
+     */
+    void setCommentLines(@NotNull NodeRole node, @NotNull Comments.Position position, @Nullable List<CommentLine> comments) {
+        this.comments = setCommentLines(this.comments, node, position, comments);
+    }
+
+    /**
+     * Sets comments at the given position in the given storage, allocating (or releasing) the storage as needed.
+     *
+     * @param storage  the storage, or <code>null</code> if not allocated yet
+     * @param node     node to attach to
+     * @param position position at which to set
+     * @param comments the comments to set
+     * @return the storage, or <code>null</code> if there are no comments
+     */
+    @Nullable
+    private static CommentStorage setCommentLines(@Nullable CommentStorage storage, @NotNull NodeRole node, @NotNull Comments.Position position, @Nullable List<CommentLine> comments) {
+        //Nothing to store
+        if (storage == null) {
+            if (comments == null)
+                return null;
+            storage = new CommentStorage();
+        }
+
+        //Set
+        storage.set(node, position, comments);
+        //Release if empty
+        return comments == null && storage.isEmpty() ? null : storage;
     }
 
     /**
@@ -189,7 +314,9 @@ public abstract class Block<T> {
      * @param value the new value
      */
     public void setValue(T value) {
+        checkFrozen();
         this.value = value;
+        this.modified = true;
     }
 
     /**
@@ -274,6 +401,82 @@ public abstract class Block<T> {
         return ignored;
     }
 
+    /**
+     * Sets if this block is modified.
+     * <p>
+     * Modifications made via the API (setting the value, editing comments, or setting, removing and moving sub-blocks
+     * of a section) are tracked automatically. <b>If you modify the stored value directly (e.g. add to a stored
+     * {@link List}), mark the block as modified using this method.</b> Marking a {@link Section section} as not
+     * modified also marks all its sub-blocks.
+     *
+     * @param modified if this block is modified
+     * @see dev.dejvokep.boostedyaml.settings.dumper.DumperSettings.Builder#setIncrementalSave(boolean)
+     */
+    public void setModified(boolean modified) {
+        this.modified = modified;
+    }
+
+    /**
+     * Returns if this block was modified since it was loaded, or since the document was last saved to its associated
+     * file. For {@link Section sections}, also returns <code>true</code> if any of the sub-blocks was modified.
+     *
+     * @return if this block was modified
+     * @see #setModified(boolean)
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Freezes this block, making it immutable; the operation is irreversible. Any further attempt to modify the value or
+     * comments will result in an {@link UnsupportedOperationException}. Used only internally - please use
+     * {@link dev.dejvokep.boostedyaml.YamlDocument#freeze()} instead.
+     * <p>
+     * Please note that the stored value itself (e.g. a {@link List}) is not copied, nor made immutable.
+     */
+    public void freeze() {
+        //Comments
+        if (comments != null) {
+            comments.beforeKey = freeze(comments.beforeKey);
+            comments.inlineKey = freeze(comments.inlineKey);
+            comments.afterKey = freeze(comments.afterKey);
+            comments.beforeValue = freeze(comments.beforeValue);
+            comments.inlineValue = freeze(comments.inlineValue);
+            comments.afterValue = freeze(comments.afterValue);
+        }
+        //Set
+        frozen = true;
+    }
+
+    /**
+     * Returns an unmodifiable view of the given comments, or <code>null</code> if <code>null</code>.
+     *
+     * @param comments the comments
+     * @return the unmodifiable comments
+     */
+    @Nullable
+    private List<CommentLine> freeze(@Nullable List<CommentLine> comments) {
+        return comments == null ? null : Collections.unmodifiableList(comments);
+    }
+
+    /**
+     * Returns if this block is frozen (immutable).
+     *
+     * @return if this block is frozen
+     * @see #freeze()
+     */
+    public boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * Throws an {@link UnsupportedOperationException} if this block is {@link #isFrozen() frozen}.
+     */
+    protected void checkFrozen() {
+        if (frozen)
+            throw new UnsupportedOperationException("Cannot modify a frozen block!");
+    }
+
     /**
      * Returns if this block represents a {@link Section section}.
      *
@@ -292,4 +495,97 @@ public abstract class Block<T> {
     public T getStoredValue() {
         return value;
     }
-}
\ No newline at end of file
+
+    /**
+     * Storage of comments of one block. Allocated only if the block has any comments, as most blocks do not, which
+     * keeps the per-block footprint to a single reference.
+     */
+    private static class CommentStorage {
+
+        //Comments
+        @Nullable
+        private List<CommentLine> beforeKey, inlineKey, afterKey, beforeValue, inlineValue, afterValue;
+
+        /**
+         * Creates an empty storage.
+         */
+        private CommentStorage() {
+        }
+
+        /**
+         * Creates a storage referencing the same comments as the given one.
+         *
+         * @param storage the storage to reference comments from
+         */
+        private CommentStorage(@NotNull CommentStorage storage) {
+            this.beforeKey = storage.beforeKey;
+            this.inlineKey = storage.inlineKey;
+            this.afterKey = storage.afterKey;
+            this.beforeValue = storage.beforeValue;
+            this.inlineValue = storage.inlineValue;
+            this.afterValue = storage.afterValue;
+        }
+
+        /**
+         * Returns comments at the given position.
+         *
+         * @param node     node from which to retrieve comments
+         * @param position position of the retrieved comments
+         * @return the comments
+         */
+        @Nullable
+        private List<CommentLine> get(@NotNull NodeRole node, @NotNull Comments.Position position) {
+            switch (position) {
+                case BEFORE:
+                    return node == NodeRole.KEY ? beforeKey : beforeValue;
+                case INLINE:
+                    return node == NodeRole.KEY ? inlineKey : inlineValue;
+                case AFTER:
+                    return node == NodeRole.KEY ? afterKey : afterValue;
+                default:
+                    return null;
+            }
+        }
+
+        /**
+         * Sets comments at the given position.
+         *
+         * @param node     node to attach to
+         * @param position position at which to set
+         * @param comments the comments to set
+         */
+        private void set(@NotNull NodeRole node, @NotNull Comments.Position position, @Nullable List<CommentLine> comments) {
+            switch (position) {
+                case BEFORE:
+                    if (node == NodeRole.KEY)
+                        beforeKey = comments;
+                    else
+                        beforeValue = comments;
+                    break;
+                case INLINE:
+                    if (node == NodeRole.KEY)
+                        inlineKey = comments;
+                    else
+                        inlineValue = comments;
+                    break;
+                case AFTER:
+                    if (node == NodeRole.KEY)
+                        afterKey = comments;
+                    else
+                        afterValue = comments;
+                    break;
+            }
+        }
+
+        /**
+         * Returns if there are no comments stored.
+         *
+         * @return if there are no comments stored
+         */
+        private boolean isEmpty() {
+            return beforeKey == null && inlineKey == null && afterKey == null && beforeValue == null && inlineValue == null && afterValue == null;
+        }
+
+    }
+
+}
@@ -139,16 +139,7 @@ public class Comments {
      */
     @Nullable
     public static List<CommentLine> get(@NotNull Block<?> block, @NotNull NodeRole node, @NotNull Position position) {
-        switch (position) {
-            case BEFORE:
-                return node == NodeRole.KEY ? block.beforeKeyComments : block.beforeValueComments;
-            case INLINE:
-                return node == NodeRole.KEY ? block.inlineKeyComments : block.inlineValueComments;
-            case AFTER:
-                return node == NodeRole.KEY ? block.afterKeyComments : block.afterValueComments;
-            default:
-                return null;
-        }
+        return block.getCommentLines(node, position);
     }
 
     /**
@@ -192,30 +183,15 @@ public class Comments {
      * @see #create(String, Position)
      */
     public static void set(@NotNull Block<?> block, @NotNull NodeRole node, @NotNull Position position, @Nullable List<CommentLine> comments) {
+        //Frozen
+        block.checkFrozen();
+        block.setModified(true);
         //Replace
         if (comments != null)
             comments = new ArrayList<>(comments);
 
-        switch (position) {
-            case BEFORE:
-                if (node == NodeRole.KEY)
-                    block.beforeKeyComments = comments;
-                else
-                    block.beforeValueComments = comments;
-                break;
-            case INLINE:
-                if (node == NodeRole.KEY)
-                    block.inlineKeyComments = comments;
-                else
-                    block.inlineValueComments = comments;
-                break;
-            case AFTER:
-                if (node == NodeRole.KEY)
-                    block.afterKeyComments = comments;
-                else
-                    block.afterValueComments = comments;
-                break;
-        }
+        //Set
+        block.setCommentLines(node, position, comments);
     }
 
     /**
@@ -313,53 +289,16 @@ public class Comments {
      * @see #create(String, Position)
      */
     public static void add(@NotNull Block<?> block, @NotNull NodeRole node, @NotNull Position position, @NotNull CommentLine comment) {
-        switch (position) {
-            case BEFORE:
-                if (node == NodeRole.KEY) {
-                    //Might be null
-                    if (block.beforeKeyComments == null)
-                        block.beforeKeyComments = new ArrayList<>();
-                    //Add
-                    block.beforeKeyComments.add(comment);
-                } else {
-                    //Might be null
-                    if (block.beforeValueComments == null)
-                        block.beforeValueComments = new ArrayList<>();
-                    //Add
-                    block.beforeValueComments.add(comment);
-                }
-                break;
-            case INLINE:
-                if (node == NodeRole.KEY) {
-                    //Might be null
-                    if (block.inlineKeyComments == null)
-                        block.inlineKeyComments = new ArrayList<>();
-                    //Add
-                    block.inlineKeyComments.add(comment);
-                } else {
-                    //Might be null
-                    if (block.inlineValueComments == null)
-                        block.inlineValueComments = new ArrayList<>();
-                    //Add
-                    block.inlineValueComments.add(comment);
-                }
-                break;
-            case AFTER:
-                if (node == NodeRole.KEY) {
-                    //Might be null
-                    if (block.afterKeyComments == null)
-                        block.afterKeyComments = new ArrayList<>();
-                    //Add
-                    block.afterKeyComments.add(comment);
-                } else {
-                    //Might be null
-                    if (block.afterValueComments == null)
-                        block.afterValueComments = new ArrayList<>();
-                    //Add
-                    block.afterValueComments.add(comment);
-                }
-                break;
-        }
+        //Frozen
+        block.checkFrozen();
+        block.setModified(true);
+        //Comments
+        List<CommentLine> comments = block.getCommentLines(node, position);
+        //Might be null
+        if (comments == null)
+            block.setCommentLines(node, position, comments = new ArrayList<>());
+        //Add
+        comments.add(comment);
     }
 
     /**
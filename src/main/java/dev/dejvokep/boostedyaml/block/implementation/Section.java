@@ -19,18 +19,29 @@ import dev.dejvokep.boostedyaml.YamlDocument;
 import dev.dejvokep.boostedyaml.block.Block;
 import dev.dejvokep.boostedyaml.engine.ExtendedConstructor;
 import dev.dejvokep.boostedyaml.route.Route;
+import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings.KeyFormat;
+import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
+import dev.dejvokep.boostedyaml.utils.collection.ConcurrentLinkedMap;
+import dev.dejvokep.boostedyaml.utils.collection.PackedDoubleList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedIntList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedLongList;
+import dev.dejvokep.boostedyaml.utils.conversion.ListConversions;
 import dev.dejvokep.boostedyaml.utils.conversion.PrimitiveConversions;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.snakeyaml.engine.v2.nodes.MappingNode;
 import org.snakeyaml.engine.v2.nodes.Node;
 import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.Tag;
 
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static dev.dejvokep.boostedyaml.utils.conversion.ListConversions.*;
 import static dev.dejvokep.boostedyaml.utils.conversion.PrimitiveConversions.*;
@@ -80,6 +91,10 @@ public class Section extends Block<Map<Object, Block<?>>> {
     private Object name;
     //Full key
     private Route route;
+    //Contents, if not loaded yet (cleared once the loaded contents are published)
+    private volatile MappingNode lazyNode;
+    //Context to load the contents with
+    private LazyContext lazyContext;
 
     /**
      * Creates a section using the given relatives, nodes and constructor, which is used to retrieve the actual Java
@@ -95,8 +110,24 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see Block#Block(Node, Node, Object) superclass constructor used
      */
     public Section(@NotNull YamlDocument root, @Nullable Section parent, @NotNull Route route, @Nullable Node keyNode, @NotNull MappingNode valueNode, @NotNull ExtendedConstructor constructor) {
+        this(root, parent, route, keyNode, valueNode, constructor, root.getLoaderSettings());
+    }
+
+    /**
+     * Creates a section using the given relatives, nodes, constructor and loader settings used to load the contents.
+     *
+     * @param root           root file
+     * @param parent         parent section (or <code>null</code> if this is the root section)
+     * @param route          absolute (starting from the root file) route to this section
+     * @param keyNode        node which represents the key to this section, used <b>only</b> to retrieve comments
+     * @param valueNode      node which represents this section's contents
+     * @param constructor    constructor used to construct all the nodes contained within the root file, used to
+     *                       retrieve Java instances of the nodes
+     * @param loaderSettings loader settings used to load the contents
+     */
+    private Section(@NotNull YamlDocument root, @Nullable Section parent, @NotNull Route route, @Nullable Node keyNode, @NotNull MappingNode valueNode, @NotNull ExtendedConstructor constructor, @NotNull LoaderSettings loaderSettings) {
         //Call superclass (value node is null because there can't be any value comments)
-        super(keyNode, valueNode, root.getGeneralSettings().getDefaultMap());
+        super(keyNode, valueNode, createContents(root.getGeneralSettings()));
         //Set
         this.root = root;
         this.parent = parent;
@@ -104,7 +135,32 @@ public class Section extends Block<Map<Object, Block<?>>> {
         this.route = route;
         resetDefaults();
         //Init
-        init(root, keyNode, valueNode, constructor);
+        init(root, keyNode, valueNode, constructor, loaderSettings);
+    }
+
+    /**
+     * Creates a lazily loaded section using the given relatives and nodes. Contents of the section are initialized from
+     * the given value node once {@link #getStoredValue() accessed} for the first time.
+     *
+     * @param root      root file
+     * @param parent    parent section
+     * @param route     absolute (starting from the root file) route to this section
+     * @param keyNode   node which represents the key to this section, used <b>only</b> to retrieve comments
+     * @param valueNode node which represents this section's contents
+     * @param context   context to load the contents with
+     * @see LoaderSettings.Builder#setLazySections(boolean)
+     */
+    private Section(@NotNull YamlDocument root, @NotNull Section parent, @NotNull Route route, @Nullable Node keyNode, @NotNull MappingNode valueNode, @NotNull LazyContext context) {
+        //Call superclass
+        super(keyNode, valueNode, createContents(root.getGeneralSettings()));
+        //Set
+        this.root = root;
+        this.parent = parent;
+        this.name = adaptKey(route.get(route.length() - 1));
+        this.route = route;
+        this.lazyNode = valueNode;
+        this.lazyContext = context;
+        resetDefaults();
     }
 
     /**
@@ -119,7 +175,7 @@ public class Section extends Block<Map<Object, Block<?>>> {
      */
     public Section(@NotNull YamlDocument root, @Nullable Section parent, @NotNull Route route, @Nullable Block<?> previous, @NotNull Map<?, ?> mappings) {
         //Call superclass
-        super(previous, root.getGeneralSettings().getDefaultMap());
+        super(previous, createContents(root.getGeneralSettings()));
         //Set
         this.root = root;
         this.parent = parent;
@@ -198,9 +254,24 @@ public class Section extends Block<Map<Object, Block<?>>> {
      *                    throw an {@link IllegalArgumentException} if provided and this {@link #isRoot() is the root})
      * @param valueNode   node which represents this section's contents
      * @param constructor constructor used to construct all the nodes contained within the root file, used to retrieve
-     *                    Java instances of the nodes
+     *                    Java instances of the nodes; if enabled by the constructor, consumed nodes are released (see
+     *                    {@link ExtendedConstructor#enter(Node)})
      */
     protected void init(@NotNull YamlDocument root, @Nullable Node keyNode, @NotNull MappingNode valueNode, @NotNull ExtendedConstructor constructor) {
+        init(root, keyNode, valueNode, constructor, root.getLoaderSettings());
+    }
+
+    /**
+     * Initializes this section, and it's contents using the given parameters, as defined by
+     * {@link #init(YamlDocument, Node, MappingNode, ExtendedConstructor)}.
+     *
+     * @param root           the root file of this section
+     * @param keyNode        node which represents the key to this section, used <b>only</b> to retrieve comments
+     * @param valueNode      node which represents this section's contents
+     * @param constructor    constructor used to retrieve Java instances of the nodes
+     * @param loaderSettings loader settings used to load the contents
+     */
+    private void init(@NotNull YamlDocument root, @Nullable Node keyNode, @NotNull MappingNode valueNode, @NotNull ExtendedConstructor constructor, @NotNull LoaderSettings loaderSettings) {
         if (root == this && keyNode != null)
             throw new IllegalArgumentException("Root sections cannot have a key node!");
 
@@ -209,17 +280,165 @@ public class Section extends Block<Map<Object, Block<?>>> {
         //Set
         this.root = root;
         resetDefaults();
-        //Loop through all mappings
-        for (NodeTuple tuple : valueNode.getValue()) {
-            //Key and value
-            Object key = adaptKey(constructor.getConstructed(tuple.getKeyNode())), value = constructor.getConstructed(tuple.getValueNode());
-            //Add
-            getStoredValue().put(key, value instanceof Map ?
-                    new Section(root, this, getSubRoute(key), tuple.getKeyNode(), (MappingNode) tuple.getValueNode(), constructor) :
-                    new TerminatedBlock(tuple.getKeyNode(), tuple.getValueNode(), value));
+        //Init the contents
+        initContents(getStoredValue(), valueNode, constructor, loaderSettings);
+    }
+
+    /**
+     * Replaces contents of this section with contents initialized from the given node (or with empty contents, if
+     * <code>null</code>), while also re-initializing comments of this section from the node.
+     * <p>
+     * The new contents are built in a new map, which then replaces the current one at once. Therefore, other threads
+     * reading this section never observe partially initialized contents - they read the previous contents until the
+     * new ones are complete. If the initialization fails, the previous contents are kept. The comments are built aside
+     * as well, however, replaced only after the contents (not atomically with them).
+     * <p>
+     * This method must only be called if {@link #isRoot()} returns <code>true</code>. Expect an
+     * {@link IllegalStateException} otherwise.
+     *
+     * @param root           the root file
+     * @param valueNode      node which represents the new contents, or <code>null</code> to replace with empty
+     *                       contents
+     * @param constructor    constructor used to construct all the nodes contained within the root file (may only be
+     *                       <code>null</code> if the node is)
+     * @param loaderSettings loader settings used to load the contents (may only be <code>null</code> if the node is)
+     */
+    protected void replaceContents(@NotNull YamlDocument root, @Nullable MappingNode valueNode, @Nullable ExtendedConstructor constructor, @Nullable LoaderSettings loaderSettings) {
+        //Validate
+        if (!isRoot())
+            throw new IllegalStateException("Cannot replace contents of a non-root section!");
+        //Set
+        this.root = root;
+        resetDefaults();
+
+        //Build the contents
+        Map<Object, Block<?>> contents = createContents(root.getGeneralSettings());
+        if (valueNode != null)
+            initContents(contents, valueNode, Objects.requireNonNull(constructor, "Constructor cannot be null!"), Objects.requireNonNull(loaderSettings, "Loader settings cannot be null!"));
+        //Replace
+        setValue(contents);
+        //Comments
+        replaceComments(null, valueNode);
+    }
+
+    /**
+     * Replaces contents and comments of this section with the ones of the given document, moving (not copying) them.
+     * The given document must not be used afterwards.
+     * <p>
+     * The contents replace the current ones at once, therefore, other threads reading this section never observe
+     * partially moved contents. The comments are replaced only after the contents (not atomically with them).
+     * Sub-sections which are not {@link LoaderSettings#isLazySections() loaded} yet will load with this root.
+     * <p>
+     * This method must only be called if {@link #isRoot()} returns <code>true</code>. Expect an
+     * {@link IllegalStateException} otherwise.
+     *
+     * @param root   the root file
+     * @param source the document whose contents to move
+     */
+    protected void replaceContents(@NotNull YamlDocument root, @NotNull YamlDocument source) {
+        //Validate
+        if (!isRoot())
+            throw new IllegalStateException("Cannot replace contents of a non-root section!");
+        //Set
+        this.root = root;
+        resetDefaults();
+
+        //Contents
+        Map<Object, Block<?>> contents = source.getStoredValue();
+        //Adapt all sub-sections
+        for (Block<?> block : contents.values())
+            if (block instanceof Section)
+                ((Section) block).adapt(root, this);
+        //Replace
+        setValue(contents);
+        //Comments
+        replaceComments(source);
+        super.setModified(source.isModified());
+    }
+
+    /**
+     * Initializes contents of this section from the given node, adding them to the given map.
+     * <p>
+     * If {@link LoaderSettings#isLazySections() enabled}, sub-sections are created as
+     * {@link #Section(YamlDocument, Section, Route, Node, MappingNode, LazyContext) lazily loaded}, later using the
+     * same constructor and loader settings.
+     *
+     * @param contents       the map to add the contents to
+     * @param valueNode      node which represents this section's contents
+     * @param constructor    constructor used to retrieve Java instances of the nodes
+     * @param loaderSettings loader settings used to load the contents
+     */
+    private void initContents(@NotNull Map<Object, Block<?>> contents, @NotNull MappingNode valueNode, @NotNull ExtendedConstructor constructor, @NotNull LoaderSettings loaderSettings) {
+        //If to load lazily (not supported by thread-safe documents, the sections could be loaded concurrently)
+        boolean lazy = loaderSettings.isLazySections() && !root.getGeneralSettings().isThreadSafe();
+        //Context for lazily loaded sub-sections
+        LazyContext context = lazy ? lazyContext != null ? lazyContext : new LazyContext(constructor, loaderSettings) : null;
+        //If to pack numeric lists
+        boolean pack = loaderSettings.isPackNumericLists();
+        //If mapping nodes are always constructed as maps (the serializer cannot deserialize anything)
+        YamlSerializer serializer = root.getGeneralSettings().getSerializer();
+        boolean deferrable = lazy && serializer.getSupportedClasses().isEmpty() && serializer.getSupportedParentClasses().isEmpty();
+        //Mappings
+        List<NodeTuple> tuples = valueNode.getValue();
+        //If to release the nodes once consumed
+        boolean release = constructor.enter(valueNode);
+        try {
+            //Loop through all mappings
+            for (int i = 0; i < tuples.size(); i++) {
+                //Tuple
+                NodeTuple tuple = tuples.get(i);
+                //Key
+                Object key = adaptKey(constructor.getConstructed(tuple.getKeyNode()));
+                //If the value does not need to be constructed at all
+                if (deferrable && isDeferrable(tuple.getValueNode())) {
+                    //Add
+                    contents.put(key, new Section(root, this, getSubRoute(key), tuple.getKeyNode(), (MappingNode) tuple.getValueNode(), context));
+                    //Release
+                    if (release) {
+                        tuples.set(i, null);
+                        constructor.release(tuple.getKeyNode());
+                    }
+                    continue;
+                }
+
+                //Value
+                Object value = constructor.getConstructed(tuple.getValueNode());
+                //Pack (anchored lists might be shared)
+                if (pack && value instanceof List && !tuple.getValueNode().getAnchor().isPresent()) {
+                    PackedList<?> packed = PackedList.pack((List<?>) value);
+                    if (packed != null)
+                        value = packed;
+                }
+                //Add
+                contents.put(key, !(value instanceof Map) ? new TerminatedBlock(tuple.getKeyNode(), tuple.getValueNode(), value) : lazy ?
+                        new Section(root, this, getSubRoute(key), tuple.getKeyNode(), (MappingNode) tuple.getValueNode(), context) :
+                        new Section(root, this, getSubRoute(key), tuple.getKeyNode(), (MappingNode) tuple.getValueNode(), constructor, loaderSettings));
+
+                //If not to release
+                if (!release)
+                    continue;
+                //Release
+                tuples.set(i, null);
+                constructor.release(tuple.getKeyNode());
+                constructor.release(tuple.getValueNode());
+            }
+        } finally {
+            constructor.exit(valueNode);
         }
     }
 
+    /**
+     * Returns if the given node can be loaded lazily without constructing it first - if it is a non-anchored
+     * {@link Tag#MAP map} node, which is always constructed as a {@link Map} (as long as the serializer cannot
+     * deserialize any objects).
+     *
+     * @param node the node to check
+     * @return if the node can be loaded lazily without constructing it first
+     */
+    private static boolean isDeferrable(@NotNull Node node) {
+        return node instanceof MappingNode && Tag.MAP.equals(node.getTag()) && !node.getAnchor().isPresent();
+    }
+
     /**
      * Returns <code>true</code> if this section is empty, <code>false</code> otherwise. The parameter indicates if to
      * search subsections too, which gives the <b>true</b> indication if the section is empty.
@@ -261,6 +480,110 @@ public class Section extends Block<Map<Object, Block<?>>> {
         return true;
     }
 
+    @Override
+    public void setModified(boolean modified) {
+        super.setModified(modified);
+        //If not modified (sub-blocks of a section not loaded yet cannot be modified)
+        if (!modified && lazyNode == null)
+            //Reset all sub-blocks
+            for (Block<?> block : getStoredValue().values())
+                block.setModified(false);
+    }
+
+    @Override
+    public boolean isModified() {
+        //If modified, or not loaded yet
+        if (super.isModified() || lazyNode != null)
+            return super.isModified();
+        //Check all sub-blocks
+        for (Block<?> block : getStoredValue().values())
+            if (block.isModified())
+                return true;
+        return false;
+    }
+
+    /**
+     * Freezes this section, including all sub-blocks, making it immutable; the operation is irreversible. Any further
+     * attempt to modify the contents or comments will result in an {@link UnsupportedOperationException}. Used only
+     * internally - please use {@link YamlDocument#freeze()} instead.
+     * <p>
+     * Please note that the stored values of terminated blocks (e.g. a {@link List}) are not copied, nor made
+     * immutable.
+     */
+    @Override
+    public void freeze() {
+        //If already frozen
+        if (isFrozen())
+            return;
+        //Freeze all sub-blocks
+        for (Block<?> block : getStoredValue().values())
+            block.freeze();
+        //Set (not a modification)
+        boolean modified = super.isModified();
+        setValue(Collections.unmodifiableMap(getStoredValue()));
+        super.setModified(modified);
+        super.freeze();
+    }
+
+    /**
+     * Returns the content map of this section.
+     * <p>
+     * If this section is {@link LoaderSettings.Builder#setLazySections(boolean) lazily loaded} and not loaded yet,
+     * loads it first.
+     *
+     * @return the content map
+     */
+    @Override
+    public Map<Object, Block<?>> getStoredValue() {
+        //Load if not loaded yet
+        if (lazyNode != null)
+            load();
+        return super.getStoredValue();
+    }
+
+    /**
+     * Loads contents of this lazily loaded section, using the constructor and loader settings the document was loaded
+     * with.
+     * <p>
+     * The section is loaded only once, while holding its lock; threads accessing it concurrently wait until it is
+     * loaded. As the constructor is shared by all sections of the same load, they are loaded one at a time. The
+     * contents are published by clearing the (volatile) node afterwards, so they are never observed partially loaded.
+     * <p>
+     * If the load fails, the partially loaded contents are discarded and the section stays not loaded; the load (and
+     * therefore also the failure) is repeated on every further access.
+     */
+    private void load() {
+        synchronized (this) {
+            //Node (if loaded in the meantime)
+            MappingNode node = lazyNode;
+            if (node == null)
+                return;
+
+            //Context
+            LazyContext context = lazyContext;
+            try {
+                synchronized (context) {
+                    //Process duplicate and merge keys (if constructed during loading, no-op)
+                    context.constructor.flatten(node);
+                    try {
+                        //Init
+                        initContents(super.getStoredValue(), node, context.constructor, context.loaderSettings);
+                    } finally {
+                        context.constructor.clear();
+                    }
+                }
+            } catch (RuntimeException | Error ex) {
+                //Discard the partially loaded contents (the node is kept, so the load fails again on next access)
+                super.getStoredValue().clear();
+                throw ex;
+            }
+
+            //Publish
+            lazyContext = null;
+            lazyNode = null;
+        }
+    }
+
     /**
      * Returns whether this section is simultaneously the root section (file).
      *
@@ -446,6 +769,30 @@ public class Section extends Block<Map<Object, Block<?>>> {
                 ((Section) entry.getValue()).adapt(root, route.add(entry.getKey()));
     }
 
+    /**
+     * Recursively adapts this section (including sub-sections, if loaded already) to the new root file and parent
+     * section, keeping the route. This method should be called if and only if contents of a root were moved to
+     * another root.
+     *
+     * @param root   new root file
+     * @param parent new parent section
+     */
+    private void adapt(@NotNull YamlDocument root, @NotNull Section parent) {
+        //Set
+        this.root = root;
+        this.parent = parent;
+        resetDefaults();
+        //If not loaded yet (will be loaded with the new root)
+        if (lazyNode != null)
+            return;
+        //Loop through all sub-blocks
+        for (Block<?> block : super.getStoredValue().values())
+            //If a section
+            if (block instanceof Section)
+                //Adapt
+                ((Section) block).adapt(root, this);
+    }
+
     /**
      * Adapts the given key, as defined by the key format currently in use ({@link GeneralSettings#getKeyFormat()}).
      * <p>
@@ -462,6 +809,19 @@ public class Section extends Block<Map<Object, Block<?>>> {
         return root.getGeneralSettings().getKeyFormat() == KeyFormat.OBJECT ? key : key.toString();
     }
 
+    /**
+     * Creates an empty content map for a section of a document using the given settings. That is an instance of
+     * {@link GeneralSettings#getDefaultMap()}, or of {@link ConcurrentLinkedMap} if the document is
+     * {@link GeneralSettings#isThreadSafe() thread-safe}.
+     *
+     * @param settings general settings of the document
+     * @return the empty content map
+     */
+    @NotNull
+    protected static Map<Object, Block<?>> createContents(@NotNull GeneralSettings settings) {
+        return settings.isThreadSafe() ? new ConcurrentLinkedMap<>() : settings.getDefaultMap();
+    }
+
     /**
      * Resets the default equivalent of this section.
      */
@@ -934,6 +1294,9 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * not overwrite anything and the already existing section is returned.
      * <p>
      * Comments of already existing block will be kept and will be assigned to the new section created at its place.
+     * <p>
+     * If the contents are stored in a {@link ConcurrentMap}, the section is created atomically - if multiple threads
+     * create a section at the same key concurrently, all of them return the same section.
      *
      * @param key      the key to create a section at
      * @param previous the previous block at this key
@@ -942,17 +1305,52 @@ public class Section extends Block<Map<Object, Block<?>>> {
     private Section createSectionInternal(@NotNull Object key, @Nullable Block<?> previous) {
         //Adapt
         Object adapted = adaptKey(key);
+        //If concurrent
+        if (getStoredValue() instanceof ConcurrentMap)
+            return createSectionAtomically(adapted, previous);
 
         return getOptionalSection(Route.from(adapted)).orElseGet(() -> {
             //The new section
             Section section = new Section(root, Section.this, getSubRoute(adapted), previous, root.getGeneralSettings().getDefaultMap());
             //Add
-            getStoredValue().put(adapted, section);
+            putBlock(adapted, section);
+            setModified(true);
             //Return
             return section;
         });
     }
 
+    /**
+     * Atomically creates a section at the given direct key in this section, whose contents are stored in a
+     * {@link ConcurrentMap}, and returns it. If there already is a section, returns it instead.
+     * <p>
+     * Please read more about the implementation at {@link #createSectionInternal(Object, Block)}.
+     *
+     * @param key      the (already adapted) key to create a section at
+     * @param previous the previous block at this key
+     * @return the newly created section or the already existing one
+     */
+    @SuppressWarnings("unchecked")
+    private Section createSectionAtomically(@NotNull Object key, @Nullable Block<?> previous) {
+        //Contents
+        ConcurrentMap<Object, Block<?>> contents = (ConcurrentMap<Object, Block<?>>) getStoredValue();
+        //Until created, or created by another thread
+        while (true) {
+            //The current block
+            Block<?> current = contents.get(key);
+            if (current instanceof Section)
+                return (Section) current;
+
+            //The new section (with comments of the replaced block)
+            Section section = new Section(root, Section.this, getSubRoute(key), previous == null ? null : current, root.getGeneralSettings().getDefaultMap());
+            //Add if not changed in the meantime
+            if (current == null ? contents.putIfAbsent(key, section) == null : contents.replace(key, current, section)) {
+                setModified(true);
+                return section;
+            }
+        }
+    }
+
     //
     //
     //      -----------------------
@@ -1016,7 +1414,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * <p>
      * <b>Attempt to set an instance of {@link Section} whose call to {@link #isRoot()} returns <code>true</code> is
      * considered illegal and will result in an {@link IllegalArgumentException}. Similarly, attempting to move sections
-     * between two different files with different key formats will result in such exception.</b>
+     * between two different files with different key formats, or setting a {@link Block#isFrozen() frozen} block, will
+     * result in such exception.</b>
      *
      * @param route the route to set at
      * @param value the value to set
@@ -1044,7 +1443,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * <p>
      * <b>Attempt to set an instance of {@link Section} whose call to {@link #isRoot()} returns <code>true</code> is
      * considered illegal and will result in an {@link IllegalArgumentException}. Similarly, attempting to move sections
-     * between two different files with different key formats will result in such exception.</b>
+     * between two different files with different key formats, or setting a {@link Block#isFrozen() frozen} block, will
+     * result in such exception.</b>
      *
      * @param route the route to set at
      * @param value the value to set
@@ -1063,6 +1463,11 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @param value the value to set
      */
     private void setInternal(@NotNull Object key, @Nullable Object value) {
+        //If frozen
+        if (value instanceof Block && ((Block<?>) value).isFrozen())
+            throw new IllegalArgumentException("Cannot set a frozen block as the value!");
+        //Modified
+        setModified(true);
         //If a section
         if (value instanceof Section) {
             //Cast
@@ -1074,21 +1479,21 @@ public class Section extends Block<Map<Object, Block<?>>> {
             if (section.getRoot().getGeneralSettings().getKeyFormat() != getRoot().getGeneralSettings().getKeyFormat())
                 throw new IllegalArgumentException("Cannot move sections between files with different key formats!");
             //Set
-            getStoredValue().put(key, section);
+            putBlock(key, section);
 
             //Adapt
             section.adapt(root, this, getSubRoute(key));
             return;
         } else if (value instanceof TerminatedBlock) {
             //Set
-            getStoredValue().put(key, (TerminatedBlock) value);
+            putBlock(key, (TerminatedBlock) value);
             return;
         }
 
         //If a map
         if (value instanceof Map) {
             //Add
-            getStoredValue().put(key, new Section(root, this, getSubRoute(key), getStoredValue().getOrDefault(key, null), (Map<?, ?>) value));
+            putBlock(key, new Section(root, this, getSubRoute(key), getStoredValue().getOrDefault(key, null), (Map<?, ?>) value));
             return;
         }
 
@@ -1097,12 +1502,41 @@ public class Section extends Block<Map<Object, Block<?>>> {
         //If already existing block is not present
         if (previous == null) {
             //Add
-            getStoredValue().put(key, new TerminatedBlock(null, null, value));
+            putBlock(key, new TerminatedBlock(null, null, value));
             return;
         }
 
         //Add with existing block's comments
-        getStoredValue().put(key, new TerminatedBlock(previous, value));
+        putBlock(key, new TerminatedBlock(previous, value));
+    }
+
+    /**
+     * Puts the given block at the given key in this section, while updating the route index (if built).
+     *
+     * @param key   the (already adapted) key
+     * @param block the block to put
+     */
+    private void putBlock(@NotNull Object key, @NotNull Block<?> block) {
+        //Put
+        Block<?> previous = getStoredValue().put(key, block);
+        //Index
+        Map<String, Block<?>> index = getRootIndex(false);
+        if (index == null)
+            return;
+        //Prefix
+        char separator = root.getGeneralSettings().getRouteSeparator();
+        String prefix = getIndexPrefix(separator);
+        if (prefix == null)
+            return;
+
+        //Sub-sections might be merged in parallel
+        synchronized (index) {
+            //Remove the previous subsection
+            if (previous instanceof Section && previous != block)
+                unindex(index, prefix, key, previous, separator);
+            //Add
+            index(index, prefix, key, block, separator);
+        }
     }
 
     /**
@@ -1118,7 +1552,7 @@ public class Section extends Block<Map<Object, Block<?>>> {
      */
     @Nullable
     public Block<?> move(@NotNull Route source, @NotNull Route destination) {
-        return traverse(source, false).map(reference -> reference.parent.getStoredValue().remove(reference.key)).map(block -> {
+        return traverse(source, false).map(reference -> reference.parent.removeBlock(reference.key)).map(block -> {
             this.set(destination, block);
             return block;
         }).orElse(null);
@@ -1137,7 +1571,7 @@ public class Section extends Block<Map<Object, Block<?>>> {
      */
     @Nullable
     public Block<?> move(@NotNull String source, @NotNull String destination) {
-        return traverse(source, false).map(reference -> reference.parent.getStoredValue().remove(reference.key)).map(block -> {
+        return traverse(source, false).map(reference -> reference.parent.removeBlock(reference.key)).map(block -> {
             this.set(destination, block);
             return block;
         }).orElse(null);
@@ -1317,14 +1751,216 @@ public class Section extends Block<Map<Object, Block<?>>> {
         if (parent == null)
             return false;
         //Remove
-        return parent.getStoredValue().remove(key) != null;
+        return parent.removeBlock(key) != null;
+    }
+
+    /**
+     * Removes block at the given key from this section and marks this section as modified, if there was any.
+     *
+     * @param key the (already adapted) key
+     * @return the removed block, or <code>null</code> if there was none
+     */
+    @Nullable
+    private Block<?> removeBlock(@Nullable Object key) {
+        //Remove
+        Block<?> block = getStoredValue().remove(key);
+        //If not removed
+        if (block == null)
+            return null;
+
+        //Modified
+        setModified(true);
+        //Index
+        Map<String, Block<?>> index = getRootIndex(false);
+        if (index != null) {
+            //Prefix
+            char separator = root.getGeneralSettings().getRouteSeparator();
+            String prefix = getIndexPrefix(separator);
+            //Remove
+            if (prefix != null)
+                synchronized (index) {
+                    unindex(index, prefix, key, block, separator);
+                }
+        }
+        return block;
     }
 
     /**
      * Clears content within this section.
      */
     public void clear() {
+        //Index
+        Map<String, Block<?>> index = getRootIndex(false);
+        if (index != null) {
+            synchronized (index) {
+                //If the root
+                if (isRoot()) {
+                    index.clear();
+                } else {
+                    //Prefix
+                    char separator = root.getGeneralSettings().getRouteSeparator();
+                    String prefix = getIndexPrefix(separator);
+                    //Remove all
+                    if (prefix != null)
+                        for (Map.Entry<Object, Block<?>> entry : getStoredValue().entrySet())
+                            unindex(index, prefix, entry.getKey(), entry.getValue(), separator);
+                }
+            }
+        }
+
+        //Clear
         getStoredValue().clear();
+        setModified(true);
+    }
+
+    //
+    //
+    //      -----------------------
+    //
+    //
+    //            Route index
+    //
+    //
+    //      -----------------------
+    //
+    //
+
+    /**
+     * Returns the route index - map of all blocks in the document, keyed by their string routes (from the root) - if
+     * this is the root section and the index is {@link GeneralSettings.Builder#setRouteIndex(boolean) enabled}.
+     * Returns <code>null</code> otherwise.
+     * <p>
+     * If the index is not built yet, builds it if <code>build</code> is <code>true</code>, or returns
+     * <code>null</code>.
+     *
+     * @param build if to build the index, if not built yet
+     * @return the route index, or <code>null</code> if not available
+     * @see GeneralSettings.Builder#setRouteIndex(boolean)
+     */
+    @Nullable
+    protected Map<String, Block<?>> getRouteIndex(boolean build) {
+        return null;
+    }
+
+    /**
+     * Returns the route index of the root section (document), as defined by {@link #getRouteIndex(boolean)}.
+     *
+     * @param build if to build the index, if not built yet
+     * @return the route index, or <code>null</code> if not available
+     */
+    @Nullable
+    private Map<String, Block<?>> getRootIndex(boolean build) {
+        return root == null ? null : ((Section) root).getRouteIndex(build);
+    }
+
+    /**
+     * Returns the cache of lists converted by the typed list getters (e.g. {@link #getStringList(Route)}), keyed by the
+     * blocks storing the source lists, if this is the root section and the cache is
+     * {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}. Returns <code>null</code> otherwise.
+     * <p>
+     * The returned map must hold its keys weakly and be safe for concurrent use.
+     *
+     * @return the cache of converted lists, or <code>null</code> if not available
+     * @see GeneralSettings.Builder#setCacheListConversions(boolean)
+     */
+    @Nullable
+    protected Map<Block<?>, ConvertedList> getConvertedLists() {
+        return null;
+    }
+
+    /**
+     * Builds a new route index of this section.
+     *
+     * @return the route index
+     * @see #getRouteIndex(boolean)
+     */
+    @NotNull
+    protected Map<String, Block<?>> buildRouteIndex() {
+        //Index
+        Map<String, Block<?>> index = new HashMap<>();
+        char separator = root.getGeneralSettings().getRouteSeparator();
+        String prefix = getIndexPrefix(separator);
+        //Add all
+        if (prefix != null)
+            for (Map.Entry<Object, Block<?>> entry : getStoredValue().entrySet())
+                index(index, prefix, entry.getKey(), entry.getValue(), separator);
+        return index;
+    }
+
+    /**
+     * Returns the string route prefix (string route of this section followed by the separator, or an empty string if
+     * the root) of blocks in this section, as used by the route index. Returns <code>null</code> if any of the keys in
+     * the route of this section contains the separator (such blocks are not accessible via string routes).
+     *
+     * @param separator the route separator
+     * @return the prefix
+     */
+    @Nullable
+    private String getIndexPrefix(char separator) {
+        //If the root
+        if (route == null)
+            return "";
+
+        //Build
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < route.length(); i++) {
+            String key = route.get(i).toString();
+            //Not accessible
+            if (key.indexOf(separator) != -1)
+                return null;
+            builder.append(key).append(separator);
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Adds the given block, including all sub-blocks (if a section), to the given route index.
+     *
+     * @param index     the route index
+     * @param prefix    string route prefix of the block's parent section
+     * @param key       key of the block
+     * @param block     the block
+     * @param separator the route separator
+     */
+    private static void index(@NotNull Map<String, Block<?>> index, @NotNull String prefix, @Nullable Object key, @NotNull Block<?> block, char separator) {
+        //Key
+        String name = String.valueOf(key);
+        //Not accessible
+        if (name.indexOf(separator) != -1)
+            return;
+
+        //Add
+        String route = prefix + name;
+        index.put(route, block);
+        //If a section
+        if (block instanceof Section)
+            for (Map.Entry<Object, Block<?>> entry : ((Section) block).getStoredValue().entrySet())
+                index(index, route + separator, entry.getKey(), entry.getValue(), separator);
+    }
+
+    /**
+     * Removes the given block, including all sub-blocks (if a section), from the given route index.
+     *
+     * @param index     the route index
+     * @param prefix    string route prefix of the block's parent section
+     * @param key       key of the block
+     * @param block     the block
+     * @param separator the route separator
+     */
+    private static void unindex(@NotNull Map<String, Block<?>> index, @NotNull String prefix, @Nullable Object key, @NotNull Block<?> block, char separator) {
+        //Key
+        String name = String.valueOf(key);
+        //Not accessible
+        if (name.indexOf(separator) != -1)
+            return;
+
+        //Remove
+        String route = prefix + name;
+        index.remove(route, block);
+        //If a section
+        if (block instanceof Section)
+            for (Map.Entry<Object, Block<?>> entry : ((Section) block).getStoredValue().entrySet())
+                unindex(index, route + separator, entry.getKey(), entry.getValue(), separator);
     }
 
     //
@@ -1360,31 +1996,6 @@ public class Section extends Block<Map<Object, Block<?>>> {
         return getBlockInternal(route, false);
     }
 
-    /**
-     * Returns block at the given direct key encapsulated in an instance of {@link Optional}. If there is no block
-     * present (no value) at the given key, returns an empty optional.
-     * <p>
-     * Each value is encapsulated in a {@link Block}: {@link Section} or {@link TerminatedBlock} instances. See the <a
-     * href="https://dejvokep.gitbook.io/boostedyaml/">wiki</a> for more information.
-     * <p>
-     * <b>A direct key</b> means the key is referring to object in this section directly (e.g. does not work like
-     * route, which might - if consisting of multiple keys - refer to subsections) - similar to
-     * {@link Map#get(Object)}.
-     * <p>
-     * <b>Please note</b> that this class also supports <code>null</code> keys, or empty string keys (<code>""</code>)
-     * as allowed by YAML 1.2 spec. This also means that compatibility with Spigot/BungeeCord API is not maintained
-     * regarding empty string keys, where those APIs would return the instance of the current block - this section.
-     * <p>
-     * <b>This is one of the fundamental methods, upon which the functionality of other methods in this class is
-     * built.</b>
-     *
-     * @param key the key to get the block at
-     * @return block at the given route encapsulated in an optional
-     */
-    private Optional<Block<?>> getDirectOptionalBlock(@NotNull Object key) {
-        return Optional.ofNullable(getStoredValue().get(adaptKey(key)));
-    }
-
     /**
      * Returns block at the given string route encapsulated in an instance of {@link Optional}. If there is no block
      * present (no value) at the given route, returns an empty optional.
@@ -1423,7 +2034,7 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @return block at the given route encapsulated in an optional
      */
     public Optional<Block<?>> getOptionalBlock(@NotNull String route) {
-        return route.indexOf(root.getGeneralSettings().getRouteSeparator()) != -1 ? getBlockInternalString(route, false) : getDirectOptionalBlock(route);
+        return Optional.ofNullable(getBlockInternalString(route));
     }
 
     /**
@@ -1451,7 +2062,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBlock(String)
      */
     public Block<?> getBlock(@NotNull String route) {
-        return getOptionalBlock(route).orElseGet(() -> canUseDefaults() ? defaults.getBlock(route) : null);
+        Block<?> block = getBlockInternalString(route);
+        return block != null ? block : canUseDefaults() ? defaults.getBlock(route) : null;
     }
 
     //
@@ -1467,42 +2079,91 @@ public class Section extends Block<Map<Object, Block<?>>> {
     //
 
     /**
-     * Internal method which returns a block, encapsulated in an instance of {@link Optional}, at the given string route
-     * in this section. If there is no block present, returns an empty optional.
+     * Internal method which returns a block at the given string route in this section. If there is no block present,
+     * returns <code>null</code>.
+     * <p>
+     * Unlike {@link #getOptionalBlock(String)}, this method does not allocate any objects if the route is a direct key,
+     * or if the keys of the route are already {@link #getRouteKeys(String) cached}.
+     *
+     * @param route the route to get the block at
+     * @return block at the given route, or <code>null</code> if there is none
+     */
+    @Nullable
+    private Block<?> getBlockInternalString(@NotNull String route) {
+        return route.indexOf(root.getGeneralSettings().getRouteSeparator()) != -1 ? getBlockInternalString(route, false) : getStoredValue().get(adaptKey(route));
+    }
+
+    /**
+     * Internal method which returns a block at the given string route in this section. If there is no block present,
+     * returns <code>null</code>.
      * <p>
      * This method does not interact with any others defined in this class.
      *
      * @param route  the route to get the block at
      * @param parent if searching for the parent section of the given route
-     * @return block at the given route encapsulated in an optional
+     * @return block at the given route, or <code>null</code> if there is none
      */
-    private Optional<Block<?>> getBlockInternalString(@NotNull String route, boolean parent) {
-        //Index of the last separator + 1
-        int lastSeparator = 0;
+    @Nullable
+    private Block<?> getBlockInternalString(@NotNull String route, boolean parent) {
+        //Route index
+        Map<String, Block<?>> index = this == root ? getRootIndex(true) : null;
+        if (index != null) {
+            //Not looking for the parent
+            if (!parent)
+                return index.get(route);
+            //Index of the last separator
+            int lastSeparator = route.lastIndexOf(root.getGeneralSettings().getRouteSeparator());
+            return lastSeparator == -1 ? this : index.get(route.substring(0, lastSeparator));
+        }
+
+        //Keys
+        String[] keys = ((Section) root).getRouteKeys(route);
         //Section
         Section section = this;
 
-        //While true (control statements are inside)
-        while (true) {
-            //Next separator
-            int nextSeparator = route.indexOf(root.getGeneralSettings().getRouteSeparator(), lastSeparator);
-            //If not found
-            if (nextSeparator == -1)
-                break;
-
+        //Traverse
+        for (int i = 0; i < keys.length - 1; i++) {
             //The block at the key
-            Block<?> block = section.getStoredValue().getOrDefault(route.substring(lastSeparator, nextSeparator), null);
+            Block<?> block = section.getStoredValue().get(keys[i]);
             //If not a section
             if (!(block instanceof Section))
-                return Optional.empty();
+                return null;
             //Set next section
             section = (Section) block;
-            //Set
-            lastSeparator = nextSeparator + 1;
         }
 
         //Return
-        return Optional.ofNullable(parent ? section : section.getStoredValue().get(route.substring(lastSeparator)));
+        return parent ? section : section.getStoredValue().get(keys[keys.length - 1]);
+    }
+
+    /**
+     * Splits the given string route into individual keys, using the root's route separator.
+     * <p>
+     * This method is only called on the root section (document), which may cache the result.
+     *
+     * @param route the string route to split
+     * @return the keys
+     */
+    @NotNull
+    protected String[] getRouteKeys(@NotNull String route) {
+        //Separator
+        char separator = root.getGeneralSettings().getRouteSeparator();
+        //Count
+        int count = 1;
+        for (int i = 0; i < route.length(); i++)
+            if (route.charAt(i) == separator)
+                count++;
+
+        //Split
+        String[] keys = new String[count];
+        int lastSeparator = 0;
+        for (int i = 0; i < count - 1; i++) {
+            int nextSeparator = route.indexOf(separator, lastSeparator);
+            keys[i] = route.substring(lastSeparator, nextSeparator);
+            lastSeparator = nextSeparator + 1;
+        }
+        keys[count - 1] = route.substring(lastSeparator);
+        return keys;
     }
 
     /**
@@ -1575,7 +2236,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @return section at the parent route from the given one encapsulated in an optional
      */
     public Optional<Section> getParent(@NotNull String route) {
-        return getBlockInternalString(route, true).map(block -> block instanceof Section ? (Section) block : null);
+        Block<?> block = getBlockInternalString(route, true);
+        return Optional.ofNullable(block instanceof Section ? (Section) block : null);
     }
 
     //
@@ -1643,7 +2305,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @return the value at the given route, or default according to the documentation above
      */
     public Object get(@NotNull String route) {
-        return getOptional(route).orElseGet(() -> canUseDefaults() ? defaults.get(route) : root.getGeneralSettings().getDefaultObject());
+        Object value = getValueInternal(route);
+        return value != null ? value : canUseDefaults() ? defaults.get(route) : root.getGeneralSettings().getDefaultObject();
     }
 
     /**
@@ -1673,7 +2336,55 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @return the value at the given route, or default according to the documentation above
      */
     public Object get(@NotNull String route, @Nullable Object def) {
-        return getOptional(route).orElse(def);
+        Object value = getValueInternal(route);
+        return value != null ? value : def;
+    }
+
+    /**
+     * Returns the value of the block (the actual value - list, integer...) at the given route, or if it is a section,
+     * the corresponding {@link Section} instance. If there is no block present at the given route, returns
+     * <code>null</code>.
+     * <p>
+     * This method is used by typed getters taking string routes, as it does not allocate any objects on the way.
+     *
+     * @param route the route to get the value at
+     * @return the value, or section at the given route
+     */
+    @Nullable
+    private Object getValueInternal(@NotNull String route) {
+        Block<?> block = getBlockInternalString(route);
+        return block instanceof Section ? block : block == null ? null : block.getStoredValue();
+    }
+
+    /**
+     * Returns number at the given route. If there is no number present at the given route, returns number from the
+     * defaults (if {@link #canUseDefaults() enabled}), or <code>null</code>.
+     * <p>
+     * This is an allocation-free equivalent of {@link #getAs(String, Class)} called with {@link Number}.
+     *
+     * @param route the route to get the number at
+     * @return the number at the given route
+     */
+    @Nullable
+    private Number getNumberInternal(@NotNull String route) {
+        Object value = getValueInternal(route);
+        return value instanceof Number ? (Number) value : canUseDefaults() ? defaults.getNumberInternal(route) : null;
+    }
+
+    /**
+     * Returns number at the given route. If there is no number present at the given route, returns number from the
+     * defaults (if {@link #canUseDefaults() enabled}), or <code>null</code>.
+     * <p>
+     * This is an equivalent of {@link #getAs(Route, Class)} called with {@link Number}, used by the primitive getters.
+     *
+     * @param route the route to get the number at
+     * @return the number at the given route
+     */
+    @Nullable
+    private Number getNumberInternal(@NotNull Route route) {
+        Block<?> block = getBlockInternal(route, false).orElse(null);
+        Object value = block instanceof TerminatedBlock ? block.getStoredValue() : null;
+        return value instanceof Number ? (Number) value : canUseDefaults() ? defaults.getNumberInternal(route) : null;
     }
 
     //
@@ -2040,7 +2751,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getString(String, String)
      */
     public String getString(@NotNull String route) {
-        return getOptionalString(route).orElseGet(() -> canUseDefaults() ? defaults.getString(route) : root.getGeneralSettings().getDefaultString());
+        Object value = getValueInternal(route);
+        return value != null ? value.toString() : canUseDefaults() ? defaults.getString(route) : root.getGeneralSettings().getDefaultString();
     }
 
     /**
@@ -2072,7 +2784,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(String)
      */
     public String getString(@NotNull String route, @Nullable String def) {
-        return getOptionalString(route).orElse(def);
+        Object value = getValueInternal(route);
+        return value != null ? value.toString() : def;
     }
 
     /**
@@ -2612,7 +3325,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getInt(String, Integer)
      */
     public Integer getInt(@NotNull String route) {
-        return getOptionalInt(route).orElseGet(() -> canUseDefaults() ? defaults.getInt(route) : root.getGeneralSettings().getDefaultNumber().intValue());
+        Number value = getNumberInternal(route);
+        return value instanceof Integer ? (Integer) value : value != null ? (Integer) value.intValue() : canUseDefaults() ? defaults.getInt(route) : (Integer) root.getGeneralSettings().getDefaultNumber().intValue();
     }
 
     /**
@@ -2635,16 +3349,57 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns integer at the given route. If nothing is present at the given route, or is not an instance of any
      * compatible type (see below), returns the provided default.
      * <p>
-     * Natively, {@link Integer} instance is preferred. However, if there is an instance of {@link Number}, the value
-     * returned is the result of {@link Number#intValue()}.
+     * Natively, {@link Integer} instance is preferred. However, if there is an instance of {@link Number}, the value
+     * returned is the result of {@link Number#intValue()}.
+     *
+     * @param route the route to get the integer at
+     * @param def   the default value
+     * @return the integer at the given route, or default according to the documentation above
+     * @see #getOptionalInt(Route)
+     */
+    public Integer getInt(@NotNull String route, @Nullable Integer def) {
+        Number value = getNumberInternal(route);
+        return value instanceof Integer ? (Integer) value : value != null ? (Integer) value.intValue() : def;
+    }
+
+    /**
+     * Returns an integer at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Integer} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#intValue()}.
+     * <p>
+     * Unlike {@link #getInt(Route, Integer)}, this method does not box the value.
+     *
+     * @param route the route to get the integer at
+     * @param def   the default value
+     * @return the integer at the given route, or default according to the documentation above
+     * @see #getInt(Route, Integer)
+     */
+    public int getInt(@NotNull Route route, int def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.intValue();
+    }
+
+    /**
+     * Returns an integer at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Integer} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#intValue()}.
+     * <p>
+     * Unlike {@link #getInt(String, Integer)}, this method does not box the value.
      *
      * @param route the route to get the integer at
      * @param def   the default value
      * @return the integer at the given route, or default according to the documentation above
-     * @see #getOptionalInt(Route)
+     * @see #getInt(String, Integer)
      */
-    public Integer getInt(@NotNull String route, @Nullable Integer def) {
-        return getOptionalInt(route).orElse(def);
+    public int getInt(@NotNull String route, int def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.intValue();
     }
 
     /**
@@ -2866,7 +3621,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getBoolean(String, Boolean)
      */
     public Boolean getBoolean(@NotNull String route) {
-        return getOptionalBoolean(route).orElseGet(() -> canUseDefaults() ? defaults.getBoolean(route) : root.getGeneralSettings().getDefaultBoolean());
+        Object value = getValueInternal(route);
+        return value instanceof Boolean ? (Boolean) value : canUseDefaults() ? defaults.getBoolean(route) : root.getGeneralSettings().getDefaultBoolean();
     }
 
     /**
@@ -2892,7 +3648,40 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBoolean(String)
      */
     public Boolean getBoolean(@NotNull String route, @Nullable Boolean def) {
-        return getOptionalBoolean(route).orElse(def);
+        Object value = getValueInternal(route);
+        return value instanceof Boolean ? (Boolean) value : def;
+    }
+
+    /**
+     * Returns boolean at the given route, as a primitive. If nothing is present at the given route, or is not a
+     * {@link Boolean} (or the primitive variant), returns the provided default.
+     * <p>
+     * Unlike {@link #getBoolean(Route, Boolean)}, this method does not box the default value.
+     *
+     * @param route the route to get the boolean at
+     * @param def   the default value
+     * @return the boolean at the given route, or default according to the documentation above
+     * @see #getBoolean(Route, Boolean)
+     */
+    public boolean getBoolean(@NotNull Route route, boolean def) {
+        Object value = getBlockInternal(route, false).map(Block::getStoredValue).orElse(null);
+        return value instanceof Boolean ? (Boolean) value : def;
+    }
+
+    /**
+     * Returns boolean at the given route, as a primitive. If nothing is present at the given route, or is not a
+     * {@link Boolean} (or the primitive variant), returns the provided default.
+     * <p>
+     * Unlike {@link #getBoolean(String, Boolean)}, this method does not box the default value.
+     *
+     * @param route the route to get the boolean at
+     * @param def   the default value
+     * @return the boolean at the given route, or default according to the documentation above
+     * @see #getBoolean(String, Boolean)
+     */
+    public boolean getBoolean(@NotNull String route, boolean def) {
+        Object value = getValueInternal(route);
+        return value instanceof Boolean ? (Boolean) value : def;
     }
 
     /**
@@ -2990,7 +3779,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getDouble(String, Double)
      */
     public Double getDouble(@NotNull String route) {
-        return getOptionalDouble(route).orElseGet(() -> canUseDefaults() ? defaults.getDouble(route) : root.getGeneralSettings().getDefaultNumber().doubleValue());
+        Number value = getNumberInternal(route);
+        return value instanceof Double ? (Double) value : value != null ? (Double) value.doubleValue() : canUseDefaults() ? defaults.getDouble(route) : (Double) root.getGeneralSettings().getDefaultNumber().doubleValue();
     }
 
     /**
@@ -3022,7 +3812,48 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(String)
      */
     public Double getDouble(@NotNull String route, @Nullable Double def) {
-        return getOptionalDouble(route).orElse(def);
+        Number value = getNumberInternal(route);
+        return value instanceof Double ? (Double) value : value != null ? (Double) value.doubleValue() : def;
+    }
+
+    /**
+     * Returns a double at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Double} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#doubleValue()}.
+     * <p>
+     * Unlike {@link #getDouble(Route, Double)}, this method does not box the value.
+     *
+     * @param route the route to get the double at
+     * @param def   the default value
+     * @return the double at the given route, or default according to the documentation above
+     * @see #getDouble(Route, Double)
+     */
+    public double getDouble(@NotNull Route route, double def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.doubleValue();
+    }
+
+    /**
+     * Returns a double at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Double} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#doubleValue()}.
+     * <p>
+     * Unlike {@link #getDouble(String, Double)}, this method does not box the value.
+     *
+     * @param route the route to get the double at
+     * @param def   the default value
+     * @return the double at the given route, or default according to the documentation above
+     * @see #getDouble(String, Double)
+     */
+    public double getDouble(@NotNull String route, double def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.doubleValue();
     }
 
     /**
@@ -3380,7 +4211,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getLong(Route, Long)
      */
     public Long getLong(@NotNull String route) {
-        return getOptionalLong(route).orElseGet(() -> canUseDefaults() ? defaults.getLong(route) : root.getGeneralSettings().getDefaultNumber().longValue());
+        Number value = getNumberInternal(route);
+        return value instanceof Long ? (Long) value : value != null ? (Long) value.longValue() : canUseDefaults() ? defaults.getLong(route) : (Long) root.getGeneralSettings().getDefaultNumber().longValue();
     }
 
     /**
@@ -3412,7 +4244,48 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(String)
      */
     public Long getLong(@NotNull String route, @Nullable Long def) {
-        return getOptionalLong(route).orElse(def);
+        Number value = getNumberInternal(route);
+        return value instanceof Long ? (Long) value : value != null ? (Long) value.longValue() : def;
+    }
+
+    /**
+     * Returns a long at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Long} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#longValue()}.
+     * <p>
+     * Unlike {@link #getLong(Route, Long)}, this method does not box the value.
+     *
+     * @param route the route to get the long at
+     * @param def   the default value
+     * @return the long at the given route, or default according to the documentation above
+     * @see #getLong(Route, Long)
+     */
+    public long getLong(@NotNull Route route, long def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.longValue();
+    }
+
+    /**
+     * Returns a long at the given route, as a primitive. If nothing is present at the given route, or is not an
+     * instance of any compatible type (see below), returns the provided default<a href="#note-1"><sup>or value from
+     * defaults</sup></a>.
+     * <p>
+     * Natively, {@link Long} instance (or the primitive variant) is preferred. However, if there is an instance of
+     * {@link Number}, the value returned is the result of {@link Number#longValue()}.
+     * <p>
+     * Unlike {@link #getLong(String, Long)}, this method does not box the value.
+     *
+     * @param route the route to get the long at
+     * @param def   the default value
+     * @return the long at the given route, or default according to the documentation above
+     * @see #getLong(String, Long)
+     */
+    public long getLong(@NotNull String route, long def) {
+        Number value = getNumberInternal(route);
+        return value == null ? def : value.longValue();
     }
 
     /**
@@ -3721,6 +4594,119 @@ public class Section extends Block<Map<Object, Block<?>>> {
         return get(route) instanceof List;
     }
 
+    /**
+     * Internal method which converts the list at the given route using the given converter. If nothing is present at
+     * the given route, or is not a {@link List}, returns <code>null</code>.
+     *
+     * @param route     the route to get the list at
+     * @param type      type of the elements of the converted list, identifying the conversion
+     * @param converter the converter
+     * @param <T>       type of the elements of the converted list
+     * @return the converted list, or <code>null</code> if there is no list at the given route
+     * @see #getConvertedList(Block, Class, Function)
+     */
+    @Nullable
+    private <T> List<T> getConvertedList(@NotNull Route route, @NotNull Class<?> type, @NotNull Function<List<?>, Optional<List<T>>> converter) {
+        return getConvertedList(getBlockInternal(route, false).orElse(null), type, converter);
+    }
+
+    /**
+     * Internal method which converts the list at the given route using the given converter. If nothing is present at
+     * the given route, or is not a {@link List}, returns <code>null</code>.
+     *
+     * @param route     the route to get the list at
+     * @param type      type of the elements of the converted list, identifying the conversion
+     * @param converter the converter
+     * @param <T>       type of the elements of the converted list
+     * @return the converted list, or <code>null</code> if there is no list at the given route
+     * @see #getConvertedList(Block, Class, Function)
+     */
+    @Nullable
+    private <T> List<T> getConvertedList(@NotNull String route, @NotNull Class<?> type, @NotNull Function<List<?>, Optional<List<T>>> converter) {
+        return getConvertedList(getBlockInternalString(route), type, converter);
+    }
+
+    /**
+     * Internal method which converts the list stored in the given block using the given converter. If the block is
+     * <code>null</code>, or does not store a {@link List}, returns <code>null</code>.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached (as an
+     * unmodifiable list) for the block and returned by subsequent calls with the same type, until the value of the
+     * block is changed.
+     *
+     * @param block     the block storing the list
+     * @param type      type of the elements of the converted list, identifying the conversion
+     * @param converter the converter
+     * @param <T>       type of the elements of the converted list
+     * @return the converted list, or <code>null</code> if there is no list stored
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    private <T> List<T> getConvertedList(@Nullable Block<?> block, @NotNull Class<?> type, @NotNull Function<List<?>, Optional<List<T>>> converter) {
+        //If not a list
+        if (!(block instanceof TerminatedBlock) || !(block.getStoredValue() instanceof List))
+            return null;
+        //The list
+        List<?> list = (List<?>) block.getStoredValue();
+
+        //Cache
+        Map<Block<?>, ConvertedList> cache = root == null ? null : ((Section) root).getConvertedLists();
+        //If disabled
+        if (cache == null)
+            return convertList(list, type, converter).orElse(null);
+
+        //Cached
+        ConvertedList converted = cache.get(block);
+        if (converted != null && converted.source == list && converted.type == type)
+            return (List<T>) converted.list;
+
+        //Convert
+        List<T> result = Collections.unmodifiableList(convertList(list, type, converter).orElseThrow(NullPointerException::new));
+        cache.put(block, new ConvertedList(list, type, result));
+        return result;
+    }
+
+    /**
+     * Converts the given list using the given converter.
+     * <p>
+     * If the list is {@link LoaderSettings#isPackNumericLists() packed} and already consists of elements of the given
+     * type, the elements are instead copied into a new instance of root's {@link GeneralSettings#getDefaultList(int)}
+     * using the primitive accessors, skipping the per-element conversion.
+     *
+     * @param list      the list to convert
+     * @param type      type of the elements of the converted list
+     * @param converter the converter
+     * @param <T>       type of the elements of the converted list
+     * @return the converted list
+     */
+    @NotNull
+    @SuppressWarnings("unchecked")
+    private <T> Optional<List<T>> convertList(@NotNull List<?> list, @NotNull Class<?> type, @NotNull Function<List<?>, Optional<List<T>>> converter) {
+        //If packed
+        if (type == Integer.class && list instanceof PackedIntList) {
+            PackedIntList packed = (PackedIntList) list;
+            List<Integer> copy = root.getGeneralSettings().getDefaultList(packed.size());
+            for (int i = 0; i < packed.size(); i++)
+                copy.add(packed.getInt(i));
+            return Optional.of((List<T>) copy);
+        } else if (type == Long.class && list instanceof PackedLongList) {
+            PackedLongList packed = (PackedLongList) list;
+            List<Long> copy = root.getGeneralSettings().getDefaultList(packed.size());
+            for (int i = 0; i < packed.size(); i++)
+                copy.add(packed.getLong(i));
+            return Optional.of((List<T>) copy);
+        } else if (type == Double.class && list instanceof PackedDoubleList) {
+            PackedDoubleList packed = (PackedDoubleList) list;
+            List<Double> copy = root.getGeneralSettings().getDefaultList(packed.size());
+            for (int i = 0; i < packed.size(); i++)
+                copy.add(packed.getDouble(i));
+            return Optional.of((List<T>) copy);
+        }
+
+        //Convert
+        return converter.apply(list);
+    }
+
     //
     //
     //      -----------------------
@@ -3737,10 +4723,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of strings at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @return the string list at the given route
@@ -3748,17 +4739,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(Route)
      */
     public Optional<List<String>> getOptionalStringList(@NotNull Route route) {
-        return toStringList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, String.class, ListConversions::toStringList));
     }
 
     /**
      * Returns list of strings at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @return the string list at the given route
@@ -3766,17 +4762,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(String)
      */
     public Optional<List<String>> getOptionalStringList(@NotNull String route) {
-        return toStringList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, String.class, ListConversions::toStringList));
     }
 
     /**
      * Returns list of strings at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @param def   the default value
@@ -3785,17 +4786,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(Route)
      */
     public List<String> getStringList(@NotNull Route route, @Nullable List<String> def) {
-        return getOptionalStringList(route).orElse(def);
+        List<String> list = getConvertedList(route, String.class, ListConversions::toStringList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of strings at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @param def   the default value
@@ -3804,7 +4811,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(String)
      */
     public List<String> getStringList(@NotNull String route, @Nullable List<String> def) {
-        return getOptionalStringList(route).orElse(def);
+        List<String> list = getConvertedList(route, String.class, ListConversions::toStringList);
+        return list != null ? list : def;
     }
 
     /**
@@ -3812,10 +4820,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @return the string list at the given route, or default according to the documentation above
@@ -3823,7 +4836,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(Route)
      */
     public List<String> getStringList(@NotNull Route route) {
-        return getOptionalStringList(route).orElseGet(() -> canUseDefaults() ? defaults.getStringList(route) : root.getGeneralSettings().getDefaultList());
+        List<String> list = getConvertedList(route, String.class, ListConversions::toStringList);
+        return list != null ? list : canUseDefaults() ? defaults.getStringList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -3831,10 +4845,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalString(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the string list at
      * @return the string list at the given route, or default according to the documentation above
@@ -3842,7 +4861,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalString(String)
      */
     public List<String> getStringList(@NotNull String route) {
-        return getOptionalStringList(route).orElseGet(() -> canUseDefaults() ? defaults.getStringList(route) : root.getGeneralSettings().getDefaultList());
+        List<String> list = getConvertedList(route, String.class, ListConversions::toStringList);
+        return list != null ? list : canUseDefaults() ? defaults.getStringList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     //
@@ -3861,10 +4881,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of integers at the given route encapsulated in an instance of {@link Optional}. If nothing is
      * present at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @return the integer list at the given route
@@ -3872,17 +4897,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(Route)
      */
     public Optional<List<Integer>> getOptionalIntList(@NotNull Route route) {
-        return toIntList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Integer.class, ListConversions::toIntList));
     }
 
     /**
      * Returns list of integers at the given route encapsulated in an instance of {@link Optional}. If nothing is
      * present at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @return the integer list at the given route
@@ -3890,17 +4920,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(String)
      */
     public Optional<List<Integer>> getOptionalIntList(@NotNull String route) {
-        return toIntList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Integer.class, ListConversions::toIntList));
     }
 
     /**
      * Returns list of integers at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @param def   the default value
@@ -3909,17 +4944,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(Route)
      */
     public List<Integer> getIntList(@NotNull Route route, @Nullable List<Integer> def) {
-        return getOptionalIntList(route).orElse(def);
+        List<Integer> list = getConvertedList(route, Integer.class, ListConversions::toIntList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of integers at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @param def   the default value
@@ -3928,7 +4969,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(String)
      */
     public List<Integer> getIntList(@NotNull String route, @Nullable List<Integer> def) {
-        return getOptionalIntList(route).orElse(def);
+        List<Integer> list = getConvertedList(route, Integer.class, ListConversions::toIntList);
+        return list != null ? list : def;
     }
 
     /**
@@ -3936,10 +4978,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @return the integer list at the given route, or default according to the documentation above
@@ -3947,7 +4994,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(Route)
      */
     public List<Integer> getIntList(@NotNull Route route) {
-        return getOptionalIntList(route).orElseGet(() -> canUseDefaults() ? defaults.getIntList(route) : root.getGeneralSettings().getDefaultList());
+        List<Integer> list = getConvertedList(route, Integer.class, ListConversions::toIntList);
+        return list != null ? list : canUseDefaults() ? defaults.getIntList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -3955,10 +5003,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the integer list at
      * @return the integer list at the given route, or default according to the documentation above
@@ -3966,7 +5019,63 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalInt(String)
      */
     public List<Integer> getIntList(@NotNull String route) {
-        return getOptionalIntList(route).orElseGet(() -> canUseDefaults() ? defaults.getIntList(route) : root.getGeneralSettings().getDefaultList());
+        List<Integer> list = getConvertedList(route, Integer.class, ListConversions::toIntList);
+        return list != null ? list : canUseDefaults() ? defaults.getIntList(route) : root.getGeneralSettings().getDefaultList();
+    }
+
+    /**
+     * Returns integers in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedIntList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getIntList(Route)}.
+     *
+     * @param route the route to get the integer array at
+     * @return the integer array at the given route, or <code>null</code>
+     * @see #getIntList(Route)
+     */
+    @Nullable
+    public int[] getIntArray(@NotNull Route route) {
+        return toIntArray(getList(route, null));
+    }
+
+    /**
+     * Returns integers in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedIntList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getIntList(String)}.
+     *
+     * @param route the route to get the integer array at
+     * @return the integer array at the given route, or <code>null</code>
+     * @see #getIntList(String)
+     */
+    @Nullable
+    public int[] getIntArray(@NotNull String route) {
+        return toIntArray(getList(route, null));
+    }
+
+    /**
+     * Returns integers in the given list, as a new primitive array. If the list is a {@link PackedIntList}, copies
+     * its contents directly.
+     *
+     * @param list the list
+     * @return the integer array, or <code>null</code> if the list is <code>null</code>
+     */
+    @Nullable
+    private static int[] toIntArray(@Nullable List<?> list) {
+        //If packed
+        if (list instanceof PackedIntList)
+            return ((PackedIntList) list).toIntArray();
+        //Convert
+        return toIntList(list).map(converted -> {
+            int[] array = new int[converted.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = converted.get(i);
+            return array;
+        }).orElse(null);
     }
 
     //
@@ -3985,10 +5094,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of big integers at the given route encapsulated in an instance of {@link Optional}. If nothing is
      * present at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @return the big integer list at the given route
@@ -3996,17 +5110,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(Route)
      */
     public Optional<List<BigInteger>> getOptionalBigIntList(@NotNull Route route) {
-        return toBigIntList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, BigInteger.class, ListConversions::toBigIntList));
     }
 
     /**
      * Returns list of big integers at the given route encapsulated in an instance of {@link Optional}. If nothing is
      * present at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @return the big integer list at the given route
@@ -4014,17 +5133,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(String)
      */
     public Optional<List<BigInteger>> getOptionalBigIntList(@NotNull String route) {
-        return toBigIntList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, BigInteger.class, ListConversions::toBigIntList));
     }
 
     /**
      * Returns list of big integers at the given route. If nothing is present at the given route, or is not a
      * {@link List}, returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @param def   the default value
@@ -4033,17 +5157,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(Route)
      */
     public List<BigInteger> getBigIntList(@NotNull Route route, @Nullable List<BigInteger> def) {
-        return getOptionalBigIntList(route).orElse(def);
+        List<BigInteger> list = getConvertedList(route, BigInteger.class, ListConversions::toBigIntList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of big integers at the given route. If nothing is present at the given route, or is not a
      * {@link List}, returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @param def   the default value
@@ -4052,7 +5182,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(String)
      */
     public List<BigInteger> getBigIntList(@NotNull String route, @Nullable List<BigInteger> def) {
-        return getOptionalBigIntList(route).orElse(def);
+        List<BigInteger> list = getConvertedList(route, BigInteger.class, ListConversions::toBigIntList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4060,10 +5191,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * {@link List}, returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or
      * value from defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @return the big integer list at the given route, or default according to the documentation above
@@ -4071,7 +5207,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(Route)
      */
     public List<BigInteger> getBigIntList(@NotNull Route route) {
-        return getOptionalBigIntList(route).orElseGet(() -> canUseDefaults() ? defaults.getBigIntList(route) : root.getGeneralSettings().getDefaultList());
+        List<BigInteger> list = getConvertedList(route, BigInteger.class, ListConversions::toBigIntList);
+        return list != null ? list : canUseDefaults() ? defaults.getBigIntList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4079,10 +5216,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * {@link List}, returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or
      * value from defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalBigInt(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the big integer list at
      * @return the big integer list at the given route, or default according to the documentation above
@@ -4090,7 +5232,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalBigInt(String)
      */
     public List<BigInteger> getBigIntList(@NotNull String route) {
-        return getOptionalBigIntList(route).orElseGet(() -> canUseDefaults() ? defaults.getBigIntList(route) : root.getGeneralSettings().getDefaultList());
+        List<BigInteger> list = getConvertedList(route, BigInteger.class, ListConversions::toBigIntList);
+        return list != null ? list : canUseDefaults() ? defaults.getBigIntList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     //
@@ -4109,10 +5252,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of bytes at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @return the byte list at the given route
@@ -4120,17 +5268,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(Route)
      */
     public Optional<List<Byte>> getOptionalByteList(@NotNull Route route) {
-        return toByteList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Byte.class, ListConversions::toByteList));
     }
 
     /**
      * Returns list of bytes at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @return the byte list at the given route
@@ -4138,17 +5291,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(String)
      */
     public Optional<List<Byte>> getOptionalByteList(@NotNull String route) {
-        return toByteList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Byte.class, ListConversions::toByteList));
     }
 
     /**
      * Returns list of bytes at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @param def   the default value
@@ -4157,17 +5315,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(Route)
      */
     public List<Byte> getByteList(@NotNull Route route, @Nullable List<Byte> def) {
-        return getOptionalByteList(route).orElse(def);
+        List<Byte> list = getConvertedList(route, Byte.class, ListConversions::toByteList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of bytes at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @param def   the default value
@@ -4176,7 +5340,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(String)
      */
     public List<Byte> getByteList(@NotNull String route, @Nullable List<Byte> def) {
-        return getOptionalByteList(route).orElse(def);
+        List<Byte> list = getConvertedList(route, Byte.class, ListConversions::toByteList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4184,10 +5349,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @return the byte list at the given route, or default according to the documentation above
@@ -4195,7 +5365,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(Route)
      */
     public List<Byte> getByteList(@NotNull Route route) {
-        return getOptionalByteList(route).orElseGet(() -> canUseDefaults() ? defaults.getByteList(route) : root.getGeneralSettings().getDefaultList());
+        List<Byte> list = getConvertedList(route, Byte.class, ListConversions::toByteList);
+        return list != null ? list : canUseDefaults() ? defaults.getByteList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4203,10 +5374,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalByte(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the byte list at
      * @return the byte list at the given route, or default according to the documentation above
@@ -4214,7 +5390,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalByte(String)
      */
     public List<Byte> getByteList(@NotNull String route) {
-        return getOptionalByteList(route).orElseGet(() -> canUseDefaults() ? defaults.getByteList(route) : root.getGeneralSettings().getDefaultList());
+        List<Byte> list = getConvertedList(route, Byte.class, ListConversions::toByteList);
+        return list != null ? list : canUseDefaults() ? defaults.getByteList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     //
@@ -4233,10 +5410,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of longs at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @return the long list at the given route
@@ -4244,17 +5426,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(Route)
      */
     public Optional<List<Long>> getOptionalLongList(@NotNull Route route) {
-        return toLongList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Long.class, ListConversions::toLongList));
     }
 
     /**
      * Returns list of longs at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @return the long list at the given route
@@ -4262,17 +5449,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(String)
      */
     public Optional<List<Long>> getOptionalLongList(@NotNull String route) {
-        return toLongList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Long.class, ListConversions::toLongList));
     }
 
     /**
      * Returns list of longs at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @param def   the default value
@@ -4281,17 +5473,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(Route)
      */
     public List<Long> getLongList(@NotNull Route route, @Nullable List<Long> def) {
-        return getOptionalLongList(route).orElse(def);
+        List<Long> list = getConvertedList(route, Long.class, ListConversions::toLongList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of longs at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @param def   the default value
@@ -4300,7 +5498,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(String)
      */
     public List<Long> getLongList(@NotNull String route, @Nullable List<Long> def) {
-        return getOptionalLongList(route).orElse(def);
+        List<Long> list = getConvertedList(route, Long.class, ListConversions::toLongList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4308,10 +5507,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @return the long list at the given route, or default according to the documentation above
@@ -4319,7 +5523,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(Route)
      */
     public List<Long> getLongList(@NotNull Route route) {
-        return getOptionalLongList(route).orElseGet(() -> canUseDefaults() ? defaults.getLongList(route) : root.getGeneralSettings().getDefaultList());
+        List<Long> list = getConvertedList(route, Long.class, ListConversions::toLongList);
+        return list != null ? list : canUseDefaults() ? defaults.getLongList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4327,10 +5532,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalLong(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the long list at
      * @return the long list at the given route, or default according to the documentation above
@@ -4338,7 +5548,63 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalLong(String)
      */
     public List<Long> getLongList(@NotNull String route) {
-        return getOptionalLongList(route).orElseGet(() -> canUseDefaults() ? defaults.getLongList(route) : root.getGeneralSettings().getDefaultList());
+        List<Long> list = getConvertedList(route, Long.class, ListConversions::toLongList);
+        return list != null ? list : canUseDefaults() ? defaults.getLongList(route) : root.getGeneralSettings().getDefaultList();
+    }
+
+    /**
+     * Returns longs in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedLongList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getLongList(Route)}.
+     *
+     * @param route the route to get the long array at
+     * @return the long array at the given route, or <code>null</code>
+     * @see #getLongList(Route)
+     */
+    @Nullable
+    public long[] getLongArray(@NotNull Route route) {
+        return toLongArray(getList(route, null));
+    }
+
+    /**
+     * Returns longs in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedLongList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getLongList(String)}.
+     *
+     * @param route the route to get the long array at
+     * @return the long array at the given route, or <code>null</code>
+     * @see #getLongList(String)
+     */
+    @Nullable
+    public long[] getLongArray(@NotNull String route) {
+        return toLongArray(getList(route, null));
+    }
+
+    /**
+     * Returns longs in the given list, as a new primitive array. If the list is a {@link PackedLongList}, copies
+     * its contents directly.
+     *
+     * @param list the list
+     * @return the long array, or <code>null</code> if the list is <code>null</code>
+     */
+    @Nullable
+    private static long[] toLongArray(@Nullable List<?> list) {
+        //If packed
+        if (list instanceof PackedLongList)
+            return ((PackedLongList) list).toLongArray();
+        //Convert
+        return toLongList(list).map(converted -> {
+            long[] array = new long[converted.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = converted.get(i);
+            return array;
+        }).orElse(null);
     }
 
     //
@@ -4357,10 +5623,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of doubles at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @return the double list at the given route
@@ -4368,17 +5639,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(Route)
      */
     public Optional<List<Double>> getOptionalDoubleList(@NotNull Route route) {
-        return toDoubleList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Double.class, ListConversions::toDoubleList));
     }
 
     /**
      * Returns list of doubles at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @return the double list at the given route
@@ -4386,17 +5662,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(String)
      */
     public Optional<List<Double>> getOptionalDoubleList(@NotNull String route) {
-        return toDoubleList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Double.class, ListConversions::toDoubleList));
     }
 
     /**
      * Returns list of doubles at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @param def   the default value
@@ -4405,17 +5686,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(Route)
      */
     public List<Double> getDoubleList(@NotNull Route route, @Nullable List<Double> def) {
-        return getOptionalDoubleList(route).orElse(def);
+        List<Double> list = getConvertedList(route, Double.class, ListConversions::toDoubleList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of doubles at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @param def   the default value
@@ -4424,7 +5711,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(String)
      */
     public List<Double> getDoubleList(@NotNull String route, @Nullable List<Double> def) {
-        return getOptionalDoubleList(route).orElse(def);
+        List<Double> list = getConvertedList(route, Double.class, ListConversions::toDoubleList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4432,10 +5720,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @return the double list at the given route, or default according to the documentation above
@@ -4443,7 +5736,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(Route)
      */
     public List<Double> getDoubleList(@NotNull Route route) {
-        return getOptionalDoubleList(route).orElseGet(() -> canUseDefaults() ? defaults.getDoubleList(route) : root.getGeneralSettings().getDefaultList());
+        List<Double> list = getConvertedList(route, Double.class, ListConversions::toDoubleList);
+        return list != null ? list : canUseDefaults() ? defaults.getDoubleList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4451,10 +5745,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalDouble(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the double list at
      * @return the double list at the given route, or default according to the documentation above
@@ -4462,7 +5761,63 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalDouble(String)
      */
     public List<Double> getDoubleList(@NotNull String route) {
-        return getOptionalDoubleList(route).orElseGet(() -> canUseDefaults() ? defaults.getDoubleList(route) : root.getGeneralSettings().getDefaultList());
+        List<Double> list = getConvertedList(route, Double.class, ListConversions::toDoubleList);
+        return list != null ? list : canUseDefaults() ? defaults.getDoubleList(route) : root.getGeneralSettings().getDefaultList();
+    }
+
+    /**
+     * Returns doubles in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedDoubleList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getDoubleList(Route)}.
+     *
+     * @param route the route to get the double array at
+     * @return the double array at the given route, or <code>null</code>
+     * @see #getDoubleList(Route)
+     */
+    @Nullable
+    public double[] getDoubleArray(@NotNull Route route) {
+        return toDoubleArray(getList(route, null));
+    }
+
+    /**
+     * Returns doubles in the list at the given route, as a primitive array. If nothing is present at the given route,
+     * or is not a {@link List}, returns <code>null</code>.
+     * <p>
+     * The returned array is always a new one - changes made to it are not reflected in the document. If the list is a
+     * {@link PackedDoubleList} (see {@link LoaderSettings#isPackNumericLists()}), its contents are copied directly.
+     * Otherwise, the elements of the list are converted as documented at {@link #getDoubleList(String)}.
+     *
+     * @param route the route to get the double array at
+     * @return the double array at the given route, or <code>null</code>
+     * @see #getDoubleList(String)
+     */
+    @Nullable
+    public double[] getDoubleArray(@NotNull String route) {
+        return toDoubleArray(getList(route, null));
+    }
+
+    /**
+     * Returns doubles in the given list, as a new primitive array. If the list is a {@link PackedDoubleList}, copies
+     * its contents directly.
+     *
+     * @param list the list
+     * @return the double array, or <code>null</code> if the list is <code>null</code>
+     */
+    @Nullable
+    private static double[] toDoubleArray(@Nullable List<?> list) {
+        //If packed
+        if (list instanceof PackedDoubleList)
+            return ((PackedDoubleList) list).toDoubleArray();
+        //Convert
+        return toDoubleList(list).map(converted -> {
+            double[] array = new double[converted.size()];
+            for (int i = 0; i < array.length; i++)
+                array[i] = converted.get(i);
+            return array;
+        }).orElse(null);
     }
 
     //
@@ -4481,10 +5836,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of floats at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @return the float list at the given route
@@ -4492,17 +5852,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(Route)
      */
     public Optional<List<Float>> getOptionalFloatList(@NotNull Route route) {
-        return toFloatList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Float.class, ListConversions::toFloatList));
     }
 
     /**
      * Returns list of floats at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @return the float list at the given route
@@ -4510,17 +5875,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(String)
      */
     public Optional<List<Float>> getOptionalFloatList(@NotNull String route) {
-        return toFloatList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Float.class, ListConversions::toFloatList));
     }
 
     /**
      * Returns list of floats at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @param def   the default value
@@ -4529,17 +5899,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(Route)
      */
     public List<Float> getFloatList(@NotNull Route route, @Nullable List<Float> def) {
-        return getOptionalFloatList(route).orElse(def);
+        List<Float> list = getConvertedList(route, Float.class, ListConversions::toFloatList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of floats at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @param def   the default value
@@ -4548,7 +5924,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(String)
      */
     public List<Float> getFloatList(@NotNull String route, @Nullable List<Float> def) {
-        return getOptionalFloatList(route).orElse(def);
+        List<Float> list = getConvertedList(route, Float.class, ListConversions::toFloatList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4556,10 +5933,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @return the float list at the given route, or default according to the documentation above
@@ -4567,7 +5949,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(Route)
      */
     public List<Float> getFloatList(@NotNull Route route) {
-        return getOptionalFloatList(route).orElseGet(() -> canUseDefaults() ? defaults.getFloatList(route) : root.getGeneralSettings().getDefaultList());
+        List<Float> list = getConvertedList(route, Float.class, ListConversions::toFloatList);
+        return list != null ? list : canUseDefaults() ? defaults.getFloatList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4575,10 +5958,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalFloat(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the float list at
      * @return the float list at the given route, or default according to the documentation above
@@ -4586,7 +5974,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalFloat(String)
      */
     public List<Float> getFloatList(@NotNull String route) {
-        return getOptionalFloatList(route).orElseGet(() -> canUseDefaults() ? defaults.getFloatList(route) : root.getGeneralSettings().getDefaultList());
+        List<Float> list = getConvertedList(route, Float.class, ListConversions::toFloatList);
+        return list != null ? list : canUseDefaults() ? defaults.getFloatList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     //
@@ -4605,10 +5994,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of shorts at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @return the short list at the given route
@@ -4616,17 +6010,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(Route)
      */
     public Optional<List<Short>> getOptionalShortList(@NotNull Route route) {
-        return toShortList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Short.class, ListConversions::toShortList));
     }
 
     /**
      * Returns list of shorts at the given route encapsulated in an instance of {@link Optional}. If nothing is present
      * at the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @return the short list at the given route
@@ -4634,17 +6033,22 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(String)
      */
     public Optional<List<Short>> getOptionalShortList(@NotNull String route) {
-        return toShortList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Short.class, ListConversions::toShortList));
     }
 
     /**
      * Returns list of shorts at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @param def   the default value
@@ -4653,17 +6057,23 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(Route)
      */
     public List<Short> getShortList(@NotNull Route route, @Nullable List<Short> def) {
-        return getOptionalShortList(route).orElse(def);
+        List<Short> list = getConvertedList(route, Short.class, ListConversions::toShortList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of shorts at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @param def   the default value
@@ -4672,7 +6082,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(String)
      */
     public List<Short> getShortList(@NotNull String route, @Nullable List<Short> def) {
-        return getOptionalShortList(route).orElse(def);
+        List<Short> list = getConvertedList(route, Short.class, ListConversions::toShortList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4680,10 +6091,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(Route)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @return the short list at the given route, or default according to the documentation above
@@ -4691,7 +6107,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(Route)
      */
     public List<Short> getShortList(@NotNull Route route) {
-        return getOptionalShortList(route).orElseGet(() -> canUseDefaults() ? defaults.getShortList(route) : root.getGeneralSettings().getDefaultList());
+        List<Short> list = getConvertedList(route, Short.class, ListConversions::toShortList);
+        return list != null ? list : canUseDefaults() ? defaults.getShortList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4699,10 +6116,15 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not compatible as documented at
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not compatible as documented at
      * {@link #getOptionalShort(String)}, it is skipped and will not appear in the returned list.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the short list at
      * @return the short list at the given route, or default according to the documentation above
@@ -4710,7 +6132,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalShort(String)
      */
     public List<Short> getShortList(@NotNull String route) {
-        return getOptionalShortList(route).orElseGet(() -> canUseDefaults() ? defaults.getShortList(route) : root.getGeneralSettings().getDefaultList());
+        List<Short> list = getConvertedList(route, Short.class, ListConversions::toShortList);
+        return list != null ? list : canUseDefaults() ? defaults.getShortList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     //
@@ -4729,54 +6152,69 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * Returns list of maps at the given route encapsulated in an instance of {@link Optional}. If nothing is present at
      * the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section. It is, however, if needed, still recommended to call {@link #set(Route, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @return the map list at the given route
      * @see #getOptionalList(Route)
      */
     public Optional<List<Map<?, ?>>> getOptionalMapList(@NotNull Route route) {
-        return toMapList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Map.class, ListConversions::toMapList));
     }
 
     /**
      * Returns list of maps at the given route encapsulated in an instance of {@link Optional}. If nothing is present at
      * the given route, or is not a {@link List}, returns an empty optional.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section. It is, however, if needed, still recommended to call {@link #set(String, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @return the map list at the given route
      * @see #getOptionalList(String)
      */
     public Optional<List<Map<?, ?>>> getOptionalMapList(@NotNull String route) {
-        return toMapList(getList(route, null));
+        return Optional.ofNullable(getConvertedList(route, Map.class, ListConversions::toMapList));
     }
 
     /**
      * Returns list of maps at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section (unless the default value is returned). It is, however, if needed, still recommended to call
      * {@link #set(Route, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @param def   the default value
@@ -4784,21 +6222,27 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalMapList(Route)
      */
     public List<Map<?, ?>> getMapList(@NotNull Route route, @Nullable List<Map<?, ?>> def) {
-        return getOptionalMapList(route).orElse(def);
+        List<Map<?, ?>> list = getConvertedList(route, Map.class, ListConversions::toMapList);
+        return list != null ? list : def;
     }
 
     /**
      * Returns list of maps at the given route. If nothing is present at the given route, or is not a {@link List},
      * returns the provided default.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section (unless the default value is returned). It is, however, if needed, still recommended to call
      * {@link #set(String, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @param def   the default value
@@ -4806,7 +6250,8 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * @see #getOptionalMapList(String)
      */
     public List<Map<?, ?>> getMapList(@NotNull String route, @Nullable List<Map<?, ?>> def) {
-        return getOptionalMapList(route).orElse(def);
+        List<Map<?, ?>> list = getConvertedList(route, Map.class, ListConversions::toMapList);
+        return list != null ? list : def;
     }
 
     /**
@@ -4814,21 +6259,27 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section (unless the default value is returned). It is, however, if needed, still recommended to call
      * {@link #set(Route, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @return the map list at the given route, or default according to the documentation above
      * @see #getMapList(Route, List)
      */
     public List<Map<?, ?>> getMapList(@NotNull Route route) {
-        return getOptionalMapList(route).orElseGet(() -> canUseDefaults() ? defaults.getMapList(route) : root.getGeneralSettings().getDefaultList());
+        List<Map<?, ?>> list = getConvertedList(route, Map.class, ListConversions::toMapList);
+        return list != null ? list : canUseDefaults() ? defaults.getMapList(route) : root.getGeneralSettings().getDefaultList();
     }
 
     /**
@@ -4836,21 +6287,82 @@ public class Section extends Block<Map<Object, Block<?>>> {
      * returns default defined by root's {@link GeneralSettings#getDefaultList()}<a href="#note-1"><sup>or value from
      * defaults</sup></a>.
      * <p>
-     * This method creates and returns a new instance of root's {@link GeneralSettings#getDefaultList()}, with the
-     * elements re-added (to the target/returned list) from the (source) list at the given route one by one, in order
-     * determined by the list iterator. If any of the elements of the source list is not an instance of {@link Map}, it
+     * Unless cached (see below), this method creates and returns a new instance of root's
+     * {@link GeneralSettings#getDefaultList()}, with the elements re-added (to the target/returned list) from the
+     * (source) list at the given route one by one, in order determined by the list iterator.
+     * If any of the elements of the source list is not an instance of {@link Map}, it
      * is skipped and will not appear in the returned list.
      * <p>
      * <b>Please note</b> that this method does not clone the maps returned - mutating them affects the list stored in
      * the section (unless the default value is returned). It is, however, if needed, still recommended to call
      * {@link #set(String, Object)} afterwards.
+     * <p>
+     * If {@link GeneralSettings.Builder#setCacheListConversions(boolean) enabled}, the converted list is cached and an
+     * unmodifiable list, shared by all subsequent calls until the value at the given route is changed, is returned
+     * instead.
      *
      * @param route the route to get the map list at
      * @return the map list at the given route, or default according to the documentation above
      * @see #getMapList(String, List)
      */
     public List<Map<?, ?>> getMapList(@NotNull String route) {
-        return getOptionalMapList(route).orElseGet(() -> canUseDefaults() ? defaults.getMapList(route) : root.getGeneralSettings().getDefaultList());
+        List<Map<?, ?>> list = getConvertedList(route, Map.class, ListConversions::toMapList);
+        return list != null ? list : canUseDefaults() ? defaults.getMapList(route) : root.getGeneralSettings().getDefaultList();
+    }
+
+    /**
+     * A list converted by one of the typed list getters (e.g. {@link #getStringList(Route)}), cached together with the
+     * source list it was converted from.
+     *
+     * @see #getConvertedLists()
+     */
+    protected static final class ConvertedList {
+
+        //Source list
+        private final List<?> source;
+        //Element type
+        private final Class<?> type;
+        //Converted list
+        private final List<?> list;
+
+        /**
+         * Creates a converted list.
+         *
+         * @param source the source list
+         * @param type   type of the elements of the converted list
+         * @param list   the converted list
+         */
+        private ConvertedList(@NotNull List<?> source, @NotNull Class<?> type, @NotNull List<?> list) {
+            this.source = source;
+            this.type = type;
+            this.list = list;
+        }
+
+    }
+
+    /**
+     * Context shared by lazily loaded sections of one load, used to load their contents.
+     *
+     * @see LoaderSettings.Builder#setLazySections(boolean)
+     */
+    private static final class LazyContext {
+
+        //Constructor
+        private final ExtendedConstructor constructor;
+        //Loader settings
+        private final LoaderSettings loaderSettings;
+
+        /**
+         * Creates a context.
+         *
+         * @param constructor    constructor the contents were loaded with
+         * @param loaderSettings loader settings the contents were loaded with
+         */
+        private LazyContext(@NotNull ExtendedConstructor constructor, @NotNull LoaderSettings loaderSettings) {
+            this.constructor = constructor;
+            this.loaderSettings = loaderSettings;
+        }
+
     }
 
 }
\ No newline at end of file
@@ -79,6 +79,15 @@ public class Pattern {
         return segments[index];
     }
 
+    /**
+     * Returns the amount of segments this pattern is composed of.
+     *
+     * @return the amount of segments
+     */
+    public int length() {
+        return segments.length;
+    }
+
     /**
      * Parses the given version ID. If the ID does not match this pattern, returns <code>null</code>.
      *
@@ -17,9 +17,13 @@ package dev.dejvokep.boostedyaml.engine;
 
 import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.snakeyaml.engine.v2.api.LoadSettings;
 import org.snakeyaml.engine.v2.constructor.StandardConstructor;
+import org.snakeyaml.engine.v2.nodes.MappingNode;
 import org.snakeyaml.engine.v2.nodes.Node;
+import org.snakeyaml.engine.v2.nodes.NodeTuple;
+import org.snakeyaml.engine.v2.nodes.SequenceNode;
 import org.snakeyaml.engine.v2.nodes.Tag;
 
 import java.util.HashMap;
@@ -34,6 +38,10 @@ public class ExtendedConstructor extends StandardConstructor {
     private final YamlSerializer serializer;
     //Constructed Java objects by nodes
     private final Map<Node, Object> constructed = new HashMap<>();
+    //If to release nodes once consumed
+    private final boolean release;
+    //Amount of anchored nodes being consumed
+    private int anchored = 0;
 
     /**
      * Creates an instance of the constructor.
@@ -42,10 +50,27 @@ public class ExtendedConstructor extends StandardConstructor {
      * @param serializer serializer
      */
     public ExtendedConstructor(@NotNull LoadSettings settings, @NotNull YamlSerializer serializer) {
+        this(settings, serializer, false);
+    }
+
+    /**
+     * Creates an instance of the constructor.
+     * <p>
+     * If <code>release</code> is enabled, nodes (and objects constructed from them) are released as soon as they are
+     * consumed, while keeping those which might be referenced again by an alias (anchored nodes and their contents).
+     * See {@link #enter(Node)} and {@link #release(Node)}. This must only be enabled if no node appears more than once
+     * in the node tree, unless it is anchored - which is always the case for trees produced by the composer.
+     *
+     * @param settings   the engine's load settings
+     * @param serializer serializer
+     * @param release    if to release nodes once consumed
+     */
+    public ExtendedConstructor(@NotNull LoadSettings settings, @NotNull YamlSerializer serializer, boolean release) {
         //Call the superclass constructor
         super(settings);
         //Set
         this.serializer = serializer;
+        this.release = release;
         //Add constructors
         tagConstructors.put(Tag.MAP, new ConstructMap((ConstructYamlMap) tagConstructors.get(Tag.MAP)));
     }
@@ -60,6 +85,16 @@ public class ExtendedConstructor extends StandardConstructor {
         return o;
     }
 
+    @Override
+    protected Object constructObject(Node node) {
+        //Reuse objects constructed by previous constructions (anchored objects and flattened keys)
+        Object o = constructed.get(node);
+        if (o != null || constructed.containsKey(node))
+            return o;
+        //Construct
+        return super.constructObject(node);
+    }
+
     @Override
     protected Object constructObjectNoCheck(Node node) {
         //Construct the object
@@ -72,13 +107,93 @@ public class ExtendedConstructor extends StandardConstructor {
 
     /**
      * Returns constructed {@link Object Java object} for the given node.
+     * <p>
+     * If the node has not been constructed yet (or has been {@link #release(Node) released}), constructs it (including
+     * all of its sub-nodes) first.
      *
      * @param node the node to get object for
      * @return the constructed object
      */
-    @NotNull
+    @Nullable
     public Object getConstructed(@NotNull Node node) {
-        return constructed.get(node);
+        //Get
+        Object o = constructed.get(node);
+        //Construct if absent
+        return o != null || constructed.containsKey(node) ? o : construct(node);
+    }
+
+    /**
+     * Processes duplicate keys of the given mapping node, as it would have been done when constructing the node.
+     * <p>
+     * This must be called on the root node, if its contents are obtained via {@link #getConstructed(Node)} without
+     * constructing the root node itself.
+     *
+     * @param node the node to process
+     */
+    public void flatten(@NotNull MappingNode node) {
+        //Construct the keys one by one, so that the engine's per-construction state (cleared after each) stays small
+        for (NodeTuple tuple : node.getValue())
+            getConstructed(tuple.getKeyNode());
+        //Process
+        flattenMapping(node);
+    }
+
+    /**
+     * Marks the contents of the given node as being consumed, until {@link #exit(Node)} is called.
+     * <p>
+     * Returns if the contents (sub-nodes) of the node can be released as soon as they are consumed. That is, if
+     * releasing is enabled and neither the node, nor any of the nodes being consumed (its ancestors) are anchored.
+     *
+     * @param node the node whose contents are being consumed
+     * @return if the contents of the node can be released once consumed
+     */
+    public boolean enter(@NotNull Node node) {
+        //If anchored
+        if (node.getAnchor().isPresent())
+            anchored++;
+        return release && anchored == 0;
+    }
+
+    /**
+     * Marks the contents of the given node as consumed. Must be called for each call to {@link #enter(Node)}.
+     *
+     * @param node the node whose contents were consumed
+     */
+    public void exit(@NotNull Node node) {
+        //If anchored
+        if (node.getAnchor().isPresent())
+            anchored--;
+    }
+
+    /**
+     * Releases the objects constructed from the given node and all of its sub-nodes, so they (and the nodes) can be
+     * garbage collected.
+     * <p>
+     * Does nothing if releasing is disabled, or the node is anchored or within contents of an anchored node (see
+     * {@link #enter(Node)}), as it might be referenced again by an alias.
+     *
+     * @param node the node to release
+     */
+    public void release(@NotNull Node node) {
+        //If cannot release
+        if (!release || anchored > 0 || node.getAnchor().isPresent())
+            return;
+
+        //Release
+        constructed.remove(node);
+        //Release sub-nodes
+        if (node instanceof SequenceNode) {
+            for (Node element : ((SequenceNode) node).getValue())
+                release(element);
+        } else if (node instanceof MappingNode) {
+            for (NodeTuple tuple : ((MappingNode) node).getValue()) {
+                //If already released
+                if (tuple == null)
+                    continue;
+                release(tuple.getKeyNode());
+                release(tuple.getValueNode());
+            }
+        }
     }
 
     /**
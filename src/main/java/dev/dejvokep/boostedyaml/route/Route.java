@@ -23,7 +23,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Objects;
-import java.util.regex.Pattern;
 
 /**
  * Routes are {@link java.net.URI URI}-like objects used to access and modify data stored in {@link Section sections},
@@ -131,7 +130,7 @@ public interface Route {
      */
     @NotNull
     static Route fromString(@NotNull String route, char separator) {
-        return route.indexOf(separator) != -1 ? new MultiKeyRoute((Object[]) route.split(Pattern.quote(String.valueOf(separator)))) : new SingleKeyRoute(route);
+        return route.indexOf(separator) != -1 ? new MultiKeyRoute(RouteFactory.split(route, separator)) : new SingleKeyRoute(route);
     }
 
     /**
@@ -152,7 +151,7 @@ public interface Route {
      */
     @NotNull
     static Route fromString(@NotNull String route, @NotNull RouteFactory routeFactory) {
-        return route.indexOf(routeFactory.getSeparator()) != -1 ? new MultiKeyRoute((Object[]) route.split(routeFactory.getEscapedSeparator())) : new SingleKeyRoute(route);
+        return routeFactory.create(route);
     }
 
     /**
@@ -221,7 +220,8 @@ public interface Route {
 
     /**
      * Returns the parent route of this one. More formally, creates a new route and copies this route's backing array
-     * without the last element.
+     * without the last element. If this route was created by {@link #add(Object)}, the route it was created from may be
+     * returned instead.
      * <p>
      * Per documentation of {@link Route#from(Object...)}, invoking this method if <code>{@link #length()} == 1</code>
      * will throw an {@link IllegalArgumentException}.
@@ -15,22 +15,36 @@
  */
 package dev.dejvokep.boostedyaml.route;
 
+import dev.dejvokep.boostedyaml.route.implementation.MultiKeyRoute;
+import dev.dejvokep.boostedyaml.route.implementation.SingleKeyRoute;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Pattern;
 
 /**
  * Factory used to build {@link Route routes} from string routes with the same separator in bulk.
  * <p>
+ * Created routes are cached (up to {@link #MAX_CACHED_ROUTES} per factory), therefore creating the same route multiple
+ * times returns the same, already compiled, instance. The factory is thread-safe.
+ * <p>
  * <i>Please note that string routes can also be used as {@link Route} objects, therefore you should not introduce
  * additional overhead by converting them using methods provided by this class, unless necessarily needed.</i>
  */
 public class RouteFactory {
 
+    /**
+     * Maximum amount of routes cached by a factory.
+     */
+    public static final int MAX_CACHED_ROUTES = 4096;
+
     //Separator
     private final char separator;
     private final String escapedSeparator;
+    //Created routes
+    private final Map<String, Route> routes = new ConcurrentHashMap<>();
 
     /**
      * Creates a factory with the given setting's {@link GeneralSettings#getRouteSeparator() separator}.
@@ -76,7 +90,48 @@ public class RouteFactory {
      */
     @NotNull
     public Route create(String route) {
-        return Route.fromString(route, this);
+        //Cached
+        Route created = routes.get(route);
+        if (created != null)
+            return created;
+
+        //Create
+        created = route.indexOf(separator) != -1 ? new MultiKeyRoute(split(route, separator)) : new SingleKeyRoute(route);
+        //Cache if not full
+        if (routes.size() < MAX_CACHED_ROUTES)
+            routes.put(route, created);
+        return created;
+    }
+
+    /**
+     * Splits the given string route by the given separator, without using regular expressions. Equivalent to
+     * {@link String#split(String)} with the (escaped) separator, including removal of trailing empty keys.
+     *
+     * @param route     the string route to split
+     * @param separator the separator
+     * @return the keys
+     */
+    @NotNull
+    static Object[] split(@NotNull String route, char separator) {
+        //Length without trailing separators (trailing empty keys are removed)
+        int length = route.length();
+        while (length > 0 && route.charAt(length - 1) == separator)
+            length--;
+        //Count
+        int count = length == 0 ? 0 : 1;
+        for (int i = 0; i < length; i++)
+            if (route.charAt(i) == separator)
+                count++;
+
+        //Split
+        Object[] keys = new Object[count];
+        int lastSeparator = 0;
+        for (int i = 0; i < count; i++) {
+            int nextSeparator = i + 1 < count ? route.indexOf(separator, lastSeparator) : length;
+            keys[i] = route.substring(lastSeparator, nextSeparator);
+            lastSeparator = nextSeparator + 1;
+        }
+        return keys;
     }
 
     /**
@@ -28,6 +28,10 @@ public class MultiKeyRoute implements Route {
 
     //Route
     private final Object[] route;
+    //Hash code
+    private final int hashCode;
+    //Parent route, if already known
+    private Route parent;
 
     /**
      * Constructs a route from the given <b>non-null</b> keys. The given keys must be <b>immutable</b>; if this cannot
@@ -50,6 +54,21 @@ public class MultiKeyRoute implements Route {
 
         //Set
         this.route = route;
+        this.hashCode = Arrays.hashCode(route);
+    }
+
+    /**
+     * Constructs a child route from the given, already validated, keys; sharing the given parent route.
+     *
+     * @param route      the route keys
+     * @param parent     the parent route
+     * @param parentHash hash code of the parent route
+     */
+    MultiKeyRoute(@NotNull Object[] route, @NotNull Route parent, int parentHash) {
+        this.route = route;
+        this.parent = parent;
+        //Same as Arrays#hashCode(Object[])
+        this.hashCode = 31 * parentHash + route[route.length - 1].hashCode();
     }
 
     @Override
@@ -83,13 +102,16 @@ public class MultiKeyRoute implements Route {
         //Set
         route[route.length - 1] = Objects.requireNonNull(key, "Route cannot contain null keys!");
         //Return
-        return new MultiKeyRoute(route);
+        return new MultiKeyRoute(route, this, hashCode);
     }
 
     @Override
     @NotNull
     public Route parent() {
-        return route.length == 2 ? Route.from(route[0]) : Route.from(Arrays.copyOf(route, route.length - 1));
+        //If not known yet (benign race - routes are immutable)
+        if (parent == null)
+            parent = route.length == 2 ? Route.from(route[0]) : Route.from(Arrays.copyOf(route, route.length - 1));
+        return parent;
     }
 
     @Override
@@ -105,7 +127,7 @@ public class MultiKeyRoute implements Route {
 
     @Override
     public int hashCode() {
-        return length() > 1 ? Arrays.hashCode(route) : Objects.hashCode(route[0]);
+        return hashCode;
     }
 
     @Override
@@ -27,6 +27,8 @@ public class SingleKeyRoute implements Route {
 
     //The key
     private final Object key;
+    //Hash code
+    private final int hashCode;
 
     /**
      * Constructs a route from the given <b>non-null</b> key. The given key must be <b>immutable</b>; if this cannot be
@@ -40,6 +42,8 @@ public class SingleKeyRoute implements Route {
      */
     public SingleKeyRoute(@NotNull Object key) {
         this.key = Objects.requireNonNull(key, "Route cannot contain null keys!");
+        //Same as Arrays#hashCode(Object[]) of a single key array
+        this.hashCode = 31 + key.hashCode();
     }
 
     @Override
@@ -71,7 +75,7 @@ public class SingleKeyRoute implements Route {
     @Override
     @NotNull
     public Route add(@NotNull Object key) {
-        return Route.from(this.key, Objects.requireNonNull(key, "Route cannot contain null keys!"));
+        return new MultiKeyRoute(new Object[]{this.key, Objects.requireNonNull(key, "Route cannot contain null keys!")}, this, hashCode);
     }
 
     @Override
@@ -85,7 +89,7 @@ public class SingleKeyRoute implements Route {
 
     @Override
     public int hashCode() {
-        return Objects.hash(key);
+        return hashCode;
     }
 
     @Override
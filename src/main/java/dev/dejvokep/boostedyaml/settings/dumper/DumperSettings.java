@@ -83,6 +83,9 @@ public class DumperSettings implements Settings {
     private final Formatter<ScalarStyle, String> scalarFormatter;
     private final Formatter<FlowStyle, Iterable<?>> sequenceFormatter;
     private final Formatter<FlowStyle, Map<?, ?>> mappingFormatter;
+    //File saving
+    private final boolean atomicSave, sync, incrementalSave;
+    private final int bufferSize;
 
     /**
      * Creates final, immutable dumper settings from the given builder.
@@ -96,6 +99,10 @@ public class DumperSettings implements Settings {
         this.sequenceFormatter = builder.sequenceFormatter;
         this.mappingFormatter = builder.mappingFormatter;
         this.stringStyle = builder.stringStyle;
+        this.atomicSave = builder.atomicSave;
+        this.sync = builder.sync;
+        this.incrementalSave = builder.incrementalSave;
+        this.bufferSize = builder.bufferSize;
     }
 
     /**
@@ -104,7 +111,30 @@ public class DumperSettings implements Settings {
      * @return the new settings
      */
     public DumpSettings buildEngineSettings() {
-        return builder.setAnchorGenerator(generatorSupplier.get()).setDumpComments(true).build();
+        return buildEngineSettings(generatorSupplier.get());
+    }
+
+    /**
+     * Builds the SnakeYAML Engine settings, using the given anchor generator instead of one obtained from the
+     * {@link #getAnchorGenerator() supplier}.
+     *
+     * @param anchorGenerator the anchor generator to use
+     * @return the new settings
+     */
+    public DumpSettings buildEngineSettings(@NotNull AnchorGenerator anchorGenerator) {
+        //The builder is shared by all documents using these settings
+        synchronized (builder) {
+            return builder.setAnchorGenerator(anchorGenerator).setDumpComments(true).build();
+        }
+    }
+
+    /**
+     * Returns the anchor generator supplier.
+     *
+     * @return the anchor generator supplier
+     */
+    public Supplier<AnchorGenerator> getAnchorGenerator() {
+        return generatorSupplier;
     }
 
     /**
@@ -143,6 +173,43 @@ public class DumperSettings implements Settings {
         return mappingFormatter;
     }
 
+    /**
+     * Returns if to save files atomically - by writing to a temporary file first and then moving it to the target
+     * location.
+     *
+     * @return if to save files atomically
+     */
+    public boolean isAtomicSave() {
+        return atomicSave;
+    }
+
+    /**
+     * Returns if to force the written contents to the storage device before a file save is considered complete.
+     *
+     * @return if to sync saved files
+     */
+    public boolean isSync() {
+        return sync;
+    }
+
+    /**
+     * Returns if to skip saving unmodified documents to their associated file.
+     *
+     * @return if to skip saving unmodified documents
+     */
+    public boolean isIncrementalSave() {
+        return incrementalSave;
+    }
+
+    /**
+     * Returns size of the buffer (in characters) used when saving to files.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
     /**
      * Returns a new builder.
      *
@@ -175,7 +242,12 @@ public class DumperSettings implements Settings {
      * @return the new builder
      */
     public static Builder builder(DumperSettings settings) {
-        return builder(settings.builder).setAnchorGenerator(settings.generatorSupplier);
+        return builder(settings.builder)
+                .setAnchorGenerator(settings.generatorSupplier)
+                .setAtomicSave(settings.atomicSave)
+                .setSync(settings.sync)
+                .setIncrementalSave(settings.incrementalSave)
+                .setBufferSize(settings.bufferSize);
     }
 
     /**
@@ -256,6 +328,22 @@ public class DumperSettings implements Settings {
          * If to escape unprintable unicode characters by default.
          */
         public static final boolean DEFAULT_ESCAPE_UNPRINTABLE = true;
+        /**
+         * If to save files atomically by default.
+         */
+        public static final boolean DEFAULT_ATOMIC_SAVE = false;
+        /**
+         * If to sync saved files to the storage device by default.
+         */
+        public static final boolean DEFAULT_SYNC = false;
+        /**
+         * If to skip saving unmodified documents by default.
+         */
+        public static final boolean DEFAULT_INCREMENTAL_SAVE = false;
+        /**
+         * Default size of the buffer (in characters) used when saving to files.
+         */
+        public static final int DEFAULT_BUFFER_SIZE = 8192;
 
         //Underlying SnakeYAML Engine settings builder
         private final DumpSettingsBuilder builder;
@@ -267,6 +355,9 @@ public class DumperSettings implements Settings {
         private Formatter<FlowStyle, Map<?, ?>> mappingFormatter = DEFAULT_MAPPING_FORMATTER;
         //String style
         private ScalarStyle stringStyle = DEFAULT_STRING_STYLE;
+        //File saving
+        private boolean atomicSave = DEFAULT_ATOMIC_SAVE, sync = DEFAULT_SYNC, incrementalSave = DEFAULT_INCREMENTAL_SAVE;
+        private int bufferSize = DEFAULT_BUFFER_SIZE;
 
         /**
          * Creates a new builder from the given, already created SnakeYAML Engine settings builder.
@@ -871,6 +962,99 @@ public class DumperSettings implements Settings {
             return this;
         }
 
+        /**
+         * Sets if to save files atomically.
+         * <p>
+         * If enabled, the contents are first written to a temporary file located in the same directory as the target
+         * file, which is then moved to replace the target file in one atomic operation (if supported by the file
+         * system). Therefore, if the save fails at any point, the target file is left untouched, instead of being
+         * truncated or partially written.
+         * <p>
+         * <b>If the file system does not support atomic moves, the target file is replaced using a regular move, which
+         * is not atomic.</b>
+         * <p>
+         * This only applies to saving via {@link dev.dejvokep.boostedyaml.YamlDocument#save()} and
+         * {@link dev.dejvokep.boostedyaml.YamlDocument#save(java.io.File)}.
+         * <p>
+         * <b>Default: </b> {@link #DEFAULT_ATOMIC_SAVE}
+         *
+         * @param atomicSave if to save files atomically
+         * @return the builder
+         */
+        public Builder setAtomicSave(boolean atomicSave) {
+            this.atomicSave = atomicSave;
+            return this;
+        }
+
+        /**
+         * Sets if to force (fsync) the written contents to the storage device before a file save is considered
+         * complete. This ensures the saved contents survive a system crash, at the cost of slower saves. If
+         * {@link #setAtomicSave(boolean) atomic saving} is enabled, the parent directory is also synced after the
+         * target file is replaced (where supported by the platform).
+         * <p>
+         * This only applies to saving via {@link dev.dejvokep.boostedyaml.YamlDocument#save()} and
+         * {@link dev.dejvokep.boostedyaml.YamlDocument#save(java.io.File)}.
+         * <p>
+         * <b>Default: </b> {@link #DEFAULT_SYNC}
+         *
+         * @param sync if to sync saved files
+         * @return the builder
+         */
+        public Builder setSync(boolean sync) {
+            this.sync = sync;
+            return this;
+        }
+
+        /**
+         * Sets if to skip saving documents, which were not modified since they were last loaded from, or saved to
+         * their associated file. If enabled and the document is not
+         * {@link dev.dejvokep.boostedyaml.block.Block#isModified() modified} (and the file was not changed in the
+         * meantime), saving to the associated file is a no-op.
+         * <p>
+         * Modifications made via the API (setting, removing, moving, comment edits...) are tracked automatically.
+         * <b>Changes made directly to stored values (e.g. adding to a list obtained via
+         * {@link dev.dejvokep.boostedyaml.block.implementation.Section#getList(String)}) are not tracked; mark such
+         * blocks as modified using {@link dev.dejvokep.boostedyaml.block.Block#setModified(boolean)}, otherwise, the
+         * changes might not be saved.</b>
+         * <p>
+         * This only applies to saving via {@link dev.dejvokep.boostedyaml.YamlDocument#save()} and
+         * {@link dev.dejvokep.boostedyaml.YamlDocument#save(java.io.File)}.
+         * <p>
+         * <b>Default: </b> {@link #DEFAULT_INCREMENTAL_SAVE}
+         *
+         * @param incrementalSave if to skip saving unmodified documents
+         * @return the builder
+         */
+        public Builder setIncrementalSave(boolean incrementalSave) {
+            this.incrementalSave = incrementalSave;
+            return this;
+        }
+
+        /**
+         * Sets size of the buffer (in characters) used when saving to files. Larger buffers result in less write
+         * operations when saving large documents.
+         * <p>
+         * If the given value is less than or equal to <code>0</code>, an {@link IllegalArgumentException} will be
+         * thrown.
+         * <p>
+         * This only applies to saving via {@link dev.dejvokep.boostedyaml.YamlDocument#save()} and
+         * {@link dev.dejvokep.boostedyaml.YamlDocument#save(java.io.File)}.
+         * <p>
+         * <b>Default: </b> {@link #DEFAULT_BUFFER_SIZE}
+         *
+         * @param bufferSize the buffer size
+         * @return the builder
+         */
+        public Builder setBufferSize(int bufferSize) {
+            // Check the size
+            if (bufferSize <= 0)
+                throw new IllegalArgumentException("Buffer size must be positive!");
+
+            // Set
+            this.bufferSize = bufferSize;
+            return this;
+        }
+
         /**
          * Builds the settings.
          *
@@ -21,6 +21,7 @@ import dev.dejvokep.boostedyaml.route.Route;
 import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
 import dev.dejvokep.boostedyaml.serialization.standard.StandardSerializer;
 import dev.dejvokep.boostedyaml.settings.Settings;
+import dev.dejvokep.boostedyaml.utils.collection.ConcurrentLinkedMap;
 import dev.dejvokep.boostedyaml.utils.supplier.ListSupplier;
 import dev.dejvokep.boostedyaml.utils.supplier.MapSupplier;
 import dev.dejvokep.boostedyaml.utils.supplier.SetSupplier;
@@ -85,6 +86,18 @@ public class GeneralSettings implements Settings {
      * If to use defaults by default.
      */
     public static final boolean DEFAULT_USE_DEFAULTS = true;
+    /**
+     * If to maintain a route index by default.
+     */
+    public static final boolean DEFAULT_ROUTE_INDEX = false;
+    /**
+     * If to cache lists converted by the typed list getters by default.
+     */
+    public static final boolean DEFAULT_CACHE_LIST_CONVERSIONS = false;
+    /**
+     * If documents should be thread-safe by default.
+     */
+    public static final boolean DEFAULT_THREAD_SAFE = false;
     /**
      * Default object.
      */
@@ -133,6 +146,12 @@ public class GeneralSettings implements Settings {
     private final YamlSerializer serializer;
     //Use defaults
     private final boolean useDefaults;
+    //Route index
+    private final boolean routeIndex;
+    //Cache list conversions
+    private final boolean cacheListConversions;
+    //Thread-safe
+    private final boolean threadSafe;
     //Default object
     private final Object defaultObject;
     //Default number
@@ -169,6 +188,9 @@ public class GeneralSettings implements Settings {
         this.defaultSet = builder.defaultSet;
         this.defaultMap = builder.defaultMap;
         this.useDefaults = builder.useDefaults;
+        this.routeIndex = builder.routeIndex;
+        this.cacheListConversions = builder.cacheListConversions;
+        this.threadSafe = builder.threadSafe;
     }
 
     /**
@@ -218,6 +240,38 @@ public class GeneralSettings implements Settings {
         return useDefaults;
     }
 
+    /**
+     * Returns if documents should maintain a flattened index of all string routes, used to access blocks at deep
+     * routes in one lookup.
+     *
+     * @return if to maintain a route index
+     * @see Builder#setRouteIndex(boolean)
+     */
+    public boolean isRouteIndex() {
+        return routeIndex;
+    }
+
+    /**
+     * Returns if documents should cache lists converted by the typed list getters (e.g.
+     * {@link Section#getStringList(String)}).
+     *
+     * @return if to cache list conversions
+     * @see Builder#setCacheListConversions(boolean)
+     */
+    public boolean isCacheListConversions() {
+        return cacheListConversions;
+    }
+
+    /**
+     * Returns if documents should be safe for concurrent modification by multiple threads.
+     *
+     * @return if documents should be thread-safe
+     * @see Builder#setThreadSafe(boolean)
+     */
+    public boolean isThreadSafe() {
+        return threadSafe;
+    }
+
     /**
      * Returns default object to use by {@link Section} getters if the return type is object.
      *
@@ -359,6 +413,9 @@ public class GeneralSettings implements Settings {
                 .setRouteSeparator(settings.separator)
                 .setSerializer(settings.serializer)
                 .setUseDefaults(settings.useDefaults)
+                .setRouteIndex(settings.routeIndex)
+                .setCacheListConversions(settings.cacheListConversions)
+                .setThreadSafe(settings.threadSafe)
                 .setDefaultObject(settings.defaultObject)
                 .setDefaultNumber(settings.defaultNumber)
                 .setDefaultString(settings.defaultString)
@@ -381,6 +438,12 @@ public class GeneralSettings implements Settings {
         private YamlSerializer serializer = DEFAULT_SERIALIZER;
         //Use defaults
         private boolean useDefaults = DEFAULT_USE_DEFAULTS;
+        //Route index
+        private boolean routeIndex = DEFAULT_ROUTE_INDEX;
+        //Cache list conversions
+        private boolean cacheListConversions = DEFAULT_CACHE_LIST_CONVERSIONS;
+        //Thread-safe
+        private boolean threadSafe = DEFAULT_THREAD_SAFE;
         //Default object
         private Object defaultObject = DEFAULT_OBJECT;
         //Default number
@@ -509,6 +572,83 @@ public class GeneralSettings implements Settings {
             return this;
         }
 
+        /**
+         * Sets if documents should maintain a flattened index of all blocks by their string routes (built using the
+         * {@link #setRouteSeparator(char) route separator}).
+         * <p>
+         * If enabled, {@link Section} methods accepting string routes, when called on the {@link YamlDocument root}
+         * of the document, obtain the block at the given route in a single lookup, instead of traversing the
+         * sections key by key. This speeds up access to deeply nested content, at the cost of memory needed for the
+         * index. The index is built once needed after each load and kept up to date by all {@link Section} methods
+         * modifying the contents.
+         * <p>
+         * <b>The index is only used if the {@link #setKeyFormat(KeyFormat) key format} is {@link KeyFormat#STRING}
+         * and the documents are not {@link #setThreadSafe(boolean) thread-safe}, nor loaded with
+         * {@link dev.dejvokep.boostedyaml.settings.loader.LoaderSettings.Builder#setLazySections(boolean) lazy
+         * sections} (building the index would load all of them). Modifications made directly to maps returned by
+         * {@link Section#getStoredValue()} are not reflected in the index and must be avoided.</b>
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_ROUTE_INDEX}
+         *
+         * @param routeIndex if to maintain a route index
+         * @return the builder
+         */
+        public Builder setRouteIndex(boolean routeIndex) {
+            this.routeIndex = routeIndex;
+            return this;
+        }
+
+        /**
+         * Sets if documents should cache lists converted by the typed list getters (e.g.
+         * {@link Section#getStringList(String)}, {@link Section#getIntList(String)} or
+         * {@link Section#getMapList(String)}).
+         * <p>
+         * If disabled, each call to such getter converts the list stored at the route into a new list. If enabled,
+         * the converted list is cached next to the block storing the source list and returned by subsequent calls,
+         * so repeated reads of the same list do not allocate. The cached list is invalidated once the value at the
+         * route is {@link Section#set(String, Object) set} (or the block's value is changed).
+         * <p>
+         * <b>If enabled, the returned lists are unmodifiable and shared between the calls. Changes made to the source
+         * lists directly (e.g. to the list returned by {@link Section#getList(String)}) are not reflected in the
+         * cached lists, unless the list is set again.</b>
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_CACHE_LIST_CONVERSIONS}
+         *
+         * @param cacheListConversions if to cache list conversions
+         * @return the builder
+         */
+        public Builder setCacheListConversions(boolean cacheListConversions) {
+            this.cacheListConversions = cacheListConversions;
+            return this;
+        }
+
+        /**
+         * Sets if documents should be safe for concurrent modification by multiple threads.
+         * <p>
+         * If enabled, sections are backed by {@link ConcurrentLinkedMap insertion-ordered concurrent maps} (instead of
+         * maps supplied by the {@link #setDefaultMap(MapSupplier) default map supplier}, which is still used for any
+         * other maps), so any number of threads can get, set and remove values in the same document concurrently,
+         * without any global lock - each section is locked only for the time its own map is modified. Parent sections
+         * missing along the route of a {@link Section#set(String, Object) set} value are created atomically, therefore
+         * concurrent sets into the same, not yet existing subtree never lose each other's values. Iterating over the
+         * contents (including {@link YamlDocument#dump() dumping}) never fails due to concurrent modifications, but
+         * might or might not reflect them.
+         * <p>
+         * To maintain consistency, the {@link #setRouteIndex(boolean) route index} and
+         * {@link dev.dejvokep.boostedyaml.settings.loader.LoaderSettings.Builder#setLazySections(boolean) lazy sections}
+         * are disabled in thread-safe documents. <b>Reloading or updating a document must still not run concurrently
+         * with other modifications of the same document.</b>
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_THREAD_SAFE}
+         *
+         * @param threadSafe if documents should be thread-safe
+         * @return the builder
+         */
+        public Builder setThreadSafe(boolean threadSafe) {
+            this.threadSafe = threadSafe;
+            return this;
+        }
+
         /**
          * Sets default object used by section getters if the return type is object.
          * <p>
@@ -48,6 +48,13 @@ public class LoaderSettings implements Settings {
     private final LoadSettingsBuilder builder;
     //If to automatically update and create file if absent
     private final boolean createFileIfAbsent, autoUpdate;
+    //File reading
+    private final boolean memoryMapping;
+    private final int readBufferSize;
+    //If to load sections lazily
+    private final boolean lazySections;
+    //If to pack numeric lists
+    private final boolean packNumericLists;
 
     /**
      * Creates final, immutable loader settings from the given builder.
@@ -58,6 +65,10 @@ public class LoaderSettings implements Settings {
         this.builder = builder.builder;
         this.autoUpdate = builder.autoUpdate;
         this.createFileIfAbsent = builder.createFileIfAbsent;
+        this.memoryMapping = builder.memoryMapping;
+        this.readBufferSize = builder.readBufferSize;
+        this.lazySections = builder.lazySections;
+        this.packNumericLists = builder.packNumericLists;
     }
 
     /**
@@ -78,6 +89,42 @@ public class LoaderSettings implements Settings {
         return createFileIfAbsent;
     }
 
+    /**
+     * Returns if to load files by mapping them into memory.
+     *
+     * @return if to memory-map loaded files
+     */
+    public boolean isMemoryMapping() {
+        return memoryMapping;
+    }
+
+    /**
+     * Returns size of the buffer (in bytes) used when loading files.
+     *
+     * @return the buffer size
+     */
+    public int getReadBufferSize() {
+        return readBufferSize;
+    }
+
+    /**
+     * Returns if to load sections lazily, once they are accessed for the first time.
+     *
+     * @return if to load sections lazily
+     */
+    public boolean isLazySections() {
+        return lazySections;
+    }
+
+    /**
+     * Returns if to store lists of numbers as {@link dev.dejvokep.boostedyaml.utils.collection.PackedList packed lists}.
+     *
+     * @return if to pack numeric lists
+     */
+    public boolean isPackNumericLists() {
+        return packNumericLists;
+    }
+
     /**
      * Builds the SnakeYAML Engine settings.
      *
@@ -85,7 +132,10 @@ public class LoaderSettings implements Settings {
      * @return the new settings
      */
     public LoadSettings buildEngineSettings(GeneralSettings generalSettings) {
-        return this.builder.setParseComments(true).setDefaultList(generalSettings::getDefaultList).setDefaultSet(generalSettings::getDefaultSet).setDefaultMap(generalSettings::getDefaultMap).build();
+        //The builder is shared by all documents using these settings
+        synchronized (builder) {
+            return this.builder.setParseComments(true).setDefaultList(generalSettings::getDefaultList).setDefaultSet(generalSettings::getDefaultSet).setDefaultMap(generalSettings::getDefaultMap).build();
+        }
     }
 
     /**
@@ -122,7 +172,11 @@ public class LoaderSettings implements Settings {
     public static Builder builder(LoaderSettings settings) {
         return builder(settings.builder)
                 .setAutoUpdate(settings.autoUpdate)
-                .setCreateFileIfAbsent(settings.createFileIfAbsent);
+                .setCreateFileIfAbsent(settings.createFileIfAbsent)
+                .setMemoryMapping(settings.memoryMapping)
+                .setReadBufferSize(settings.readBufferSize)
+                .setLazySections(settings.lazySections)
+                .setPackNumericLists(settings.packNumericLists);
     }
 
     /**
@@ -147,11 +201,34 @@ public class LoaderSettings implements Settings {
          * If to allow duplicate keys by default.
          */
         public static final boolean DEFAULT_ALLOW_DUPLICATE_KEYS = true;
+        /**
+         * If to memory-map loaded files by default.
+         */
+        public static final boolean DEFAULT_MEMORY_MAPPING = false;
+        /**
+         * Default size of the buffer (in bytes) used when loading files.
+         */
+        public static final int DEFAULT_READ_BUFFER_SIZE = 8192;
+        /**
+         * If to load sections lazily by default.
+         */
+        public static final boolean DEFAULT_LAZY_SECTIONS = false;
+        /**
+         * If to pack numeric lists by default.
+         */
+        public static final boolean DEFAULT_PACK_NUMERIC_LISTS = false;
 
         //Underlying SnakeYAML Engine settings builder
         private final LoadSettingsBuilder builder;
         //If to automatically update and create file if absent
         private boolean autoUpdate = DEFAULT_AUTO_UPDATE, createFileIfAbsent = DEFAULT_CREATE_FILE_IF_ABSENT;
+        //File reading
+        private boolean memoryMapping = DEFAULT_MEMORY_MAPPING;
+        private int readBufferSize = DEFAULT_READ_BUFFER_SIZE;
+        //If to load sections lazily
+        private boolean lazySections = DEFAULT_LAZY_SECTIONS;
+        //If to pack numeric lists
+        private boolean packNumericLists = DEFAULT_PACK_NUMERIC_LISTS;
 
         /**
          * Creates a new builder from the given, already created SnakeYAML Engine settings builder.
@@ -206,6 +283,117 @@ public class LoaderSettings implements Settings {
             return this;
         }
 
+        /**
+         * Sets if to load files by mapping them into memory, instead of reading them through a buffered stream.
+         * <p>
+         * Mapping avoids copying the file contents between the kernel and the application, which speeds up loading of
+         * large files. Files larger than 2 GB are always read through a buffered stream.
+         * <p>
+         * <b>Please note</b> that Java provides no way to release a mapping explicitly - it remains valid until the
+         * garbage collector reclaims it, some time after the load. On some platforms (e.g. Windows), a file mapped
+         * into memory cannot be truncated, deleted nor replaced in the meantime, so {@link YamlDocument#save() saving}
+         * the document right after it was loaded (atomically, or not) might fail. Do not enable this option if that
+         * is the case.
+         * <p>
+         * This only applies to loading via {@link YamlDocument#reload()} and document creation from a file.
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_MEMORY_MAPPING}
+         *
+         * @param memoryMapping if to memory-map loaded files
+         * @return the builder
+         */
+        public Builder setMemoryMapping(boolean memoryMapping) {
+            this.memoryMapping = memoryMapping;
+            return this;
+        }
+
+        /**
+         * Sets size of the buffer (in bytes) used when loading files through a buffered stream. Larger buffers result
+         * in less read operations when loading large files.
+         * <p>
+         * If the given value is less than or equal to <code>0</code>, an {@link IllegalArgumentException} will be
+         * thrown.
+         * <p>
+         * This only applies to loading via {@link YamlDocument#reload()} and document creation from a file.
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_READ_BUFFER_SIZE}
+         *
+         * @param readBufferSize the buffer size
+         * @return the builder
+         */
+        public Builder setReadBufferSize(int readBufferSize) {
+            // Check the size
+            if (readBufferSize <= 0)
+                throw new IllegalArgumentException("Buffer size must be positive!");
+
+            // Set
+            this.readBufferSize = readBufferSize;
+            return this;
+        }
+
+        /**
+         * Sets if to load sections lazily. If enabled, contents of sections are kept in their raw (node) form when the
+         * document is loaded, and sub-blocks of a section are only created once the section's contents are accessed for
+         * the first time (e.g. by a getter called with a route leading through the section).
+         * <p>
+         * This reduces load time and memory usage of large documents, of which only a small part is ever read. Once a
+         * section is loaded, it behaves the same as if it was loaded eagerly. Operations which process the whole
+         * document - {@link YamlDocument#update() updating}, {@link YamlDocument#dump() dumping} (also saving) or
+         * {@link YamlDocument#freeze() freezing} - load all the remaining sections. As building it would load the whole
+         * document as well, the
+         * {@link dev.dejvokep.boostedyaml.settings.general.GeneralSettings.Builder#setRouteIndex(boolean) route index}
+         * is not used by documents loaded with lazy sections.
+         * <p>
+         * Sections are loaded using the same loader settings as the document was loaded with, even if the document
+         * was {@link YamlDocument#reload(java.io.InputStream, LoaderSettings) reloaded} using other than the
+         * associated settings.
+         * <p>
+         * Each section is loaded only once, under a lock, and its contents are published only when completely loaded.
+         * Any number of threads can therefore read the document concurrently, even if its sections are not loaded
+         * yet; the first read of a section blocks the other readers of the same section until loaded (sections of the
+         * same load are loaded one at a time). Modifying the document concurrently with any other access is, however,
+         * still not supported - lazy loading is not used by
+         * {@link dev.dejvokep.boostedyaml.settings.general.GeneralSettings.Builder#setThreadSafe(boolean) thread-safe}
+         * documents.
+         * <p>
+         * <b>Please note</b> that values referenced via aliases from within lazily loaded sections are not shared with
+         * the anchored value (are loaded as a copy).
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_LAZY_SECTIONS}
+         *
+         * @param lazySections if to load sections lazily
+         * @return the builder
+         */
+        public Builder setLazySections(boolean lazySections) {
+            this.lazySections = lazySections;
+            return this;
+        }
+
+        /**
+         * Sets if to store lists of numbers as {@link dev.dejvokep.boostedyaml.utils.collection.PackedList packed
+         * lists}, backed by an array of primitives. If enabled, each list (value of a block) whose elements are all
+         * integers, all longs or all doubles is stored as a {@link dev.dejvokep.boostedyaml.utils.collection.PackedIntList},
+         * {@link dev.dejvokep.boostedyaml.utils.collection.PackedLongList}, respectively
+         * {@link dev.dejvokep.boostedyaml.utils.collection.PackedDoubleList}, when the document is loaded.
+         * <p>
+         * This reduces memory usage of large numeric lists (e.g. lookup tables) and makes their elements readable without
+         * copying via primitive array getters, like {@link dev.dejvokep.boostedyaml.block.implementation.Section#getIntArray(String)}.
+         * <p>
+         * <b>Please note</b> that packed lists cannot contain <code>null</code> elements, nor elements of any other type
+         * than the one they are specialized for. Do not enable this option if you add such elements to lists obtained via
+         * {@link dev.dejvokep.boostedyaml.block.implementation.Section#getList(String)}. Anchored lists (referenced via
+         * aliases) are never packed.
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_PACK_NUMERIC_LISTS}
+         *
+         * @param packNumericLists if to pack numeric lists
+         * @return the builder
+         */
+        public Builder setPackNumericLists(boolean packNumericLists) {
+            this.packNumericLists = packNumericLists;
+            return this;
+        }
+
         /**
          * Sets custom label for error messages.
          * <p>
@@ -279,6 +467,25 @@ public class LoaderSettings implements Settings {
             return this;
         }
 
+        /**
+         * Sets maximum amount of code points (characters) a loaded document can have, to prevent excessive memory usage.
+         * Increase the limit if large documents need to be loaded.
+         * <p>
+         * For additional information, please refer to documentation of the parent method listed below.
+         * <p>
+         * <b>Default: </b> defined by the parent method<br>
+         * <b>Parent method: </b> {@link LoadSettingsBuilder#setCodePointLimit(int)}<br>
+         * <b>Parent method docs (v2.3): </b><a href="https://javadoc.io/static/org.snakeyaml/snakeyaml-engine/2.3/org/snakeyaml/engine/v2/api/LoadSettingsBuilder.html#setCodePointLimit(int)">click</a><br>
+         * <b>Related YAML spec (v1.2.2): </b>-
+         *
+         * @param codePointLimit maximum amount of code points
+         * @return the builder
+         */
+        public Builder setCodePointLimit(int codePointLimit) {
+            builder.setCodePointLimit(codePointLimit);
+            return this;
+        }
+
         /**
          * Sets custom node to Java object constructors, per YAML tag.
          * <p>
@@ -17,6 +17,7 @@ package dev.dejvokep.boostedyaml.settings.updater;
 
 import dev.dejvokep.boostedyaml.YamlDocument;
 import dev.dejvokep.boostedyaml.dvs.Pattern;
+import dev.dejvokep.boostedyaml.dvs.Version;
 import dev.dejvokep.boostedyaml.dvs.versioning.AutomaticVersioning;
 import dev.dejvokep.boostedyaml.dvs.versioning.ManualVersioning;
 import dev.dejvokep.boostedyaml.dvs.versioning.Versioning;
@@ -30,8 +31,11 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.UnaryOperator;
 
 /**
  * Updater settings cover all options related explicitly (only) to file updating.
@@ -98,6 +102,18 @@ public class UpdaterSettings implements Settings {
      * Default versioning.
      */
     public static final Versioning DEFAULT_VERSIONING = null;
+    /**
+     * Default value copier.
+     */
+    public static final ValueCopier DEFAULT_VALUE_COPIER = null;
+    /**
+     * If to merge subtrees in parallel by default.
+     */
+    public static final boolean DEFAULT_PARALLEL_MERGE = false;
+    /**
+     * Default minimum amount of blocks in a subtree of the defaults to merge it in parallel.
+     */
+    public static final int DEFAULT_PARALLEL_MERGE_THRESHOLD = 10000;
 
     /**
      * Default updater settings.
@@ -124,9 +140,21 @@ public class UpdaterSettings implements Settings {
     private final Versioning versioning;
     //Option sorting
     private final OptionSorting optionSorting;
+    //Value copier
+    private final ValueCopier valueCopier;
+    //Parallel merge
+    private final boolean parallelMerge;
+    private final int parallelMergeThreshold;
+    //Migration plans
+    private final Map<Pattern, List<Version>> migrationPlans = new ConcurrentHashMap<>();
+    //Converted routes (by separator and version ID)
+    private final Map<Character, Map<String, Set<Route>>> ignoredRoutes = new ConcurrentHashMap<>();
+    private final Map<Character, Map<String, Map<Route, Route>>> convertedRelocations = new ConcurrentHashMap<>();
 
     /**
      * Creates final, immutable updater settings from the given builder.
+     * <p>
+     * All the collections are copied, therefore, any further changes made to the builder do not affect the settings.
      *
      * @param builder the builder
      */
@@ -135,19 +163,37 @@ public class UpdaterSettings implements Settings {
         this.enableDowngrading = builder.enableDowngrading;
         this.keepAll = builder.keepAll;
         this.optionSorting = builder.optionSorting;
-        this.mergeRules = builder.mergeRules;
-        this.ignored = builder.ignored;
-        this.relocations = builder.relocations;
-        this.mappers = builder.mappers;
-        this.customLogic = builder.customLogic;
+        this.mergeRules = Collections.unmodifiableMap(new HashMap<>(builder.mergeRules));
+        this.ignored = copy(builder.ignored, RouteSet::new);
+        this.relocations = copy(builder.relocations, RouteMap::new);
+        this.mappers = copy(builder.mappers, map -> Collections.unmodifiableMap(new HashMap<>(map)));
+        this.customLogic = copy(builder.customLogic, list -> Collections.unmodifiableList(new ArrayList<>(list)));
         this.versioning = builder.versioning;
+        this.valueCopier = builder.valueCopier;
+        this.parallelMerge = builder.parallelMerge;
+        this.parallelMergeThreshold = builder.parallelMergeThreshold;
+    }
+
+    /**
+     * Returns an immutable copy of the given map, with each value copied by the given function.
+     *
+     * @param map    the map to copy
+     * @param copier the function used to copy the values
+     * @param <T>    type of the values
+     * @return the immutable copy
+     */
+    @NotNull
+    private static <T> Map<String, T> copy(@NotNull Map<String, T> map, @NotNull UnaryOperator<T> copier) {
+        Map<String, T> copy = new HashMap<>();
+        map.forEach((key, value) -> copy.put(key, copier.apply(value)));
+        return Collections.unmodifiableMap(copy);
     }
 
     /**
      * Returns merge preservation rules.
      * <p>
      * The given map contains the merge rule as the key, with the value representing if to preserve content already in
-     * the document instead of the equivalent from the defaults.
+     * the document instead of the equivalent from the defaults. The returned map is immutable.
      *
      * @return the merge rules
      */
@@ -157,6 +203,8 @@ public class UpdaterSettings implements Settings {
 
     /**
      * Returns which routes to ignore if updating to the specified version ID.
+     * <p>
+     * The routes are parsed only once per separator and version ID. The returned set is immutable.
      *
      * @param versionId version for which to return the routes
      * @param separator separator used to parse the string routes
@@ -164,11 +212,13 @@ public class UpdaterSettings implements Settings {
      */
     public Set<Route> getIgnoredRoutes(@NotNull String versionId, char separator) {
         RouteSet ignored = this.ignored.get(versionId);
-        return ignored == null ? Collections.emptySet() : ignored.merge(separator);
+        return ignored == null ? Collections.emptySet() : ignoredRoutes.computeIfAbsent(separator, key -> new ConcurrentHashMap<>()).computeIfAbsent(versionId, key -> Collections.unmodifiableSet(ignored.merge(separator)));
     }
 
     /**
      * Returns relocations (in <code>from route = to route</code> format) that took effect at the given version ID.
+     * <p>
+     * The routes are parsed only once per separator and version ID. The returned map is immutable.
      *
      * @param versionId the version ID for which to return relocations
      * @param separator separator used to parse the string routes
@@ -176,11 +226,13 @@ public class UpdaterSettings implements Settings {
      */
     public Map<Route, Route> getRelocations(@NotNull String versionId, char separator) {
         RouteMap<Route, String> relocations = this.relocations.get(versionId);
-        return relocations == null ? Collections.emptyMap() : relocations.merge(Function.identity(), route -> Route.fromString(route, separator), separator);
+        return relocations == null ? Collections.emptyMap() : convertedRelocations.computeIfAbsent(separator, key -> new ConcurrentHashMap<>()).computeIfAbsent(versionId, key -> Collections.unmodifiableMap(relocations.merge(Function.identity(), route -> Route.fromString(route, separator), separator)));
     }
 
     /**
      * Returns mappers to apply at the given version ID.
+     * <p>
+     * The returned map is immutable.
      *
      * @param versionId the version ID for which to return mappers
      * @param separator separator used to parse the string routes
@@ -200,6 +252,61 @@ public class UpdaterSettings implements Settings {
         return customLogic.getOrDefault(versionId, Collections.emptyList());
     }
 
+    /**
+     * Returns all versions, as defined by the given pattern, at which there are any relocations, mappers or custom
+     * logic to apply, sorted from the oldest. Version IDs which do not exactly match the pattern are omitted, as no
+     * version can be identified by them.
+     * <p>
+     * The plan is built only once per pattern. The returned list is immutable and the versions in it must not be
+     * modified (e.g. using {@link Version#next()}).
+     *
+     * @param pattern the pattern to parse version IDs with
+     * @return the sorted versions with operations to apply
+     */
+    @NotNull
+    public List<Version> getMigrationPlan(@NotNull Pattern pattern) {
+        return migrationPlans.computeIfAbsent(pattern, this::buildMigrationPlan);
+    }
+
+    /**
+     * Builds the migration plan for the given pattern, as defined by {@link #getMigrationPlan(Pattern)}.
+     *
+     * @param pattern the pattern to parse version IDs with
+     * @return the sorted versions with operations to apply
+     */
+    @NotNull
+    private List<Version> buildMigrationPlan(@NotNull Pattern pattern) {
+        //All version IDs with operations
+        Set<String> ids = new HashSet<>(relocations.keySet());
+        ids.addAll(mappers.keySet());
+        ids.addAll(customLogic.keySet());
+
+        //Parse
+        List<Version> plan = new ArrayList<>(ids.size());
+        for (String id : ids) {
+            Version version = pattern.getVersion(id);
+            if (version != null && getLength(pattern, version) == id.length())
+                plan.add(version);
+        }
+        //Sort
+        plan.sort(Comparator.naturalOrder());
+        return Collections.unmodifiableList(plan);
+    }
+
+    /**
+     * Returns the length (in characters) of the ID of the given version, as built from its segments.
+     *
+     * @param pattern pattern of the version
+     * @param version the version
+     * @return the length of the version ID
+     */
+    private int getLength(@NotNull Pattern pattern, @NotNull Version version) {
+        int length = 0;
+        for (int index = 0; index < pattern.length(); index++)
+            length += pattern.getSegment(index).getElementLength(version.getCursor(index));
+        return length;
+    }
+
     /**
      * Returns the versioning.
      *
@@ -246,6 +353,34 @@ public class UpdaterSettings implements Settings {
         return optionSorting;
     }
 
+    /**
+     * Returns the copier used to copy values, which cannot be copied natively, from the defaults during merging.
+     *
+     * @return the value copier, or <code>null</code> if not set
+     */
+    @Nullable
+    public ValueCopier getValueCopier() {
+        return valueCopier;
+    }
+
+    /**
+     * Returns if to merge subtrees in parallel.
+     *
+     * @return if to merge subtrees in parallel
+     */
+    public boolean isParallelMerge() {
+        return parallelMerge;
+    }
+
+    /**
+     * Returns the minimum amount of blocks in a subtree of the defaults to merge it in parallel.
+     *
+     * @return the parallel merge threshold
+     */
+    public int getParallelMergeThreshold() {
+        return parallelMergeThreshold;
+    }
+
     /**
      * Returns a new builder.
      *
@@ -272,7 +407,10 @@ public class UpdaterSettings implements Settings {
                 .setRelocationsInternal(settings.relocations)
                 .addMappers(settings.mappers)
                 .addCustomLogic(settings.customLogic)
-                .setVersioning(settings.versioning);
+                .setVersioning(settings.versioning)
+                .setValueCopier(settings.valueCopier)
+                .setParallelMerge(settings.parallelMerge)
+                .setParallelMergeThreshold(settings.parallelMergeThreshold);
     }
 
     /**
@@ -300,6 +438,11 @@ public class UpdaterSettings implements Settings {
         private Versioning versioning = DEFAULT_VERSIONING;
         //Option sorting
         private OptionSorting optionSorting = DEFAULT_OPTION_SORTING;
+        //Value copier
+        private ValueCopier valueCopier = DEFAULT_VALUE_COPIER;
+        //Parallel merge
+        private boolean parallelMerge = DEFAULT_PARALLEL_MERGE;
+        private int parallelMergeThreshold = DEFAULT_PARALLEL_MERGE_THRESHOLD;
 
         /**
          * Creates a new builder will all the default settings applied.
@@ -377,6 +520,60 @@ public class UpdaterSettings implements Settings {
             return this;
         }
 
+        /**
+         * Sets the copier used to deep copy values, which the merger cannot copy natively (see {@link ValueCopier}),
+         * when merging them from the defaults into the document.
+         * <p>
+         * If set to <code>null</code>, such values are copied by representing them into nodes and constructing them
+         * back into Java objects, which is significantly slower.
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_VALUE_COPIER}
+         *
+         * @param valueCopier the value copier, or <code>null</code> to copy via nodes
+         * @return the builder
+         */
+        public Builder setValueCopier(@Nullable ValueCopier valueCopier) {
+            this.valueCopier = valueCopier;
+            return this;
+        }
+
+        /**
+         * Sets if to merge subtrees in parallel.
+         * <p>
+         * If enabled, sections which are present in both the document and the defaults, and whose subtree in the
+         * defaults consists of at least {@link #setParallelMergeThreshold(int) threshold} blocks, are merged in
+         * parallel with their siblings, on the {@link ForkJoinPool#commonPool() common pool} (or the pool the update
+         * is running in, if any). Useful only for very large documents; merging small subtrees in parallel is slower.
+         * <p>
+         * Neither the document, nor the defaults may be accessed by other threads while updating.
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_PARALLEL_MERGE}
+         *
+         * @param parallelMerge if to merge subtrees in parallel
+         * @return the builder
+         * @see #setParallelMergeThreshold(int)
+         */
+        public Builder setParallelMerge(boolean parallelMerge) {
+            this.parallelMerge = parallelMerge;
+            return this;
+        }
+
+        /**
+         * Sets the minimum amount of blocks (including all sub-blocks) in a subtree of the defaults to merge it in
+         * parallel.
+         * <p>
+         * <b>Effective if and only parallel merging is {@link #setParallelMerge(boolean) enabled}.</b>
+         * <p>
+         * <b>Default: </b>{@link #DEFAULT_PARALLEL_MERGE_THRESHOLD}
+         *
+         * @param parallelMergeThreshold the parallel merge threshold
+         * @return the builder
+         */
+        public Builder setParallelMergeThreshold(int parallelMergeThreshold) {
+            this.parallelMergeThreshold = parallelMergeThreshold;
+            return this;
+        }
+
         /**
          * Sets merge preservation rules. Overwrites only rules that are defined in the given map. You can learn more at
          * {@link MergeRule}.
@@ -418,7 +615,7 @@ public class UpdaterSettings implements Settings {
          * @return the builder
          */
         private Builder setIgnoredRoutesInternal(@NotNull Map<String, RouteSet> routes) {
-            this.ignored.putAll(routes);
+            routes.forEach((versionId, set) -> this.ignored.put(versionId, new RouteSet(set)));
             return this;
         }
 
@@ -582,7 +779,7 @@ public class UpdaterSettings implements Settings {
          * @return the builder
          */
         private Builder setRelocationsInternal(@NotNull Map<String, RouteMap<Route, String>> relocations) {
-            this.relocations.putAll(relocations);
+            relocations.forEach((versionId, map) -> this.relocations.put(versionId, new RouteMap<>(map)));
             return this;
         }
 
@@ -1054,6 +1251,22 @@ public class UpdaterSettings implements Settings {
         private Map<Route, R> routes = null;
         private Map<String, S> strings = null;
 
+        /**
+         * Creates an empty route map.
+         */
+        private RouteMap() {
+        }
+
+        /**
+         * Creates a copy of the given route map.
+         *
+         * @param map the route map to copy
+         */
+        private RouteMap(@NotNull RouteMap<R, S> map) {
+            this.routes = map.routes == null ? null : new HashMap<>(map.routes);
+            this.strings = map.strings == null ? null : new HashMap<>(map.strings);
+        }
+
         /**
          * Merges the contained maps into one single map with customizable value type.
          * <p>
@@ -1117,6 +1330,22 @@ public class UpdaterSettings implements Settings {
         private Set<Route> routes = null;
         private Set<String> strings = null;
 
+        /**
+         * Creates an empty route set.
+         */
+        private RouteSet() {
+        }
+
+        /**
+         * Creates a copy of the given route set.
+         *
+         * @param set the route set to copy
+         */
+        private RouteSet(@NotNull RouteSet set) {
+            this.routes = set.routes == null ? null : new HashSet<>(set.routes);
+            this.strings = set.strings == null ? null : new HashSet<>(set.strings);
+        }
+
         /**
          * Merges the contained sets into one single set.
          * <p>
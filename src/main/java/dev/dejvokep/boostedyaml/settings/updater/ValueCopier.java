@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.settings.updater;
+
+import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
+import dev.dejvokep.boostedyaml.updater.operators.Merger;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Interface used to deep copy values, which the {@link Merger} cannot copy natively, when merging them from the
+ * defaults into the document.
+ * <p>
+ * Values copied natively are scalars (strings, numbers, booleans, characters and enums, which are immutable and
+ * therefore shared), byte arrays, lists, sets, maps and objects supported by the configured {@link YamlSerializer}.
+ * Any other value is passed to this copier.
+ */
+@FunctionalInterface
+public interface ValueCopier {
+
+    /**
+     * Returns a deep copy of the given value, isolated from the given instance (which is part of the defaults).
+     * Immutable values might be returned as they are.
+     *
+     * @param value the value to copy
+     * @return the copied value
+     */
+    @Nullable
+    Object copy(@NotNull Object value);
+
+}
@@ -16,6 +16,7 @@
 package dev.dejvokep.boostedyaml.updater;
 
 import dev.dejvokep.boostedyaml.block.implementation.Section;
+import dev.dejvokep.boostedyaml.dvs.Pattern;
 import dev.dejvokep.boostedyaml.dvs.Version;
 import dev.dejvokep.boostedyaml.dvs.versioning.Versioning;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
@@ -85,6 +86,9 @@ public class VersionedOperations {
     /**
      * Iterates all versions after the version of the document, but before or the version of the defaults (mathematical
      * notation: <code>(document, defaults></code>); while applying the appropriate relocations and mappers.
+     * <p>
+     * Only versions with any operations to apply are visited, as defined by
+     * {@link UpdaterSettings#getMigrationPlan(Pattern)}.
      *
      * @param document        the document section that's being updated
      * @param documentVersion version of the document
@@ -93,17 +97,20 @@ public class VersionedOperations {
      * @param separator       the route separator, used to parse string routes
      */
     private static void iterate(@NotNull Section document, @NotNull Version documentVersion, @NotNull Version defaultsVersion, @NotNull UpdaterSettings settings, char separator) {
-        //Copy
-        Version current = documentVersion.copy();
-        //While not at the latest version
-        while (current.compareTo(defaultsVersion) <= 0) {
-            //Move to the next version
-            current.next();
+        //Go through all versions with operations
+        for (Version version : settings.getMigrationPlan(defaultsVersion.getPattern())) {
+            //If not newer than the document
+            if (version.compareTo(documentVersion) <= 0)
+                continue;
+            //If newer than the defaults
+            if (version.compareTo(defaultsVersion) > 0)
+                break;
+
             //Apply
-            Relocator.apply(document, settings.getRelocations(current.asID(), separator));
-            Mapper.apply(document, settings.getMappers(current.asID(), separator));
+            Relocator.apply(document, settings.getRelocations(version.asID(), separator));
+            Mapper.apply(document, settings.getMappers(version.asID(), separator));
             //Run logic
-            settings.getCustomLogic(current.asID()).forEach(consumer -> consumer.accept(document.getRoot()));
+            settings.getCustomLogic(version.asID()).forEach(consumer -> consumer.accept(document.getRoot()));
         }
     }
 
@@ -17,6 +17,7 @@ package dev.dejvokep.boostedyaml.updater.operators;
 
 import dev.dejvokep.boostedyaml.YamlDocument;
 import dev.dejvokep.boostedyaml.block.Block;
+import dev.dejvokep.boostedyaml.block.Comments;
 import dev.dejvokep.boostedyaml.block.implementation.TerminatedBlock;
 import dev.dejvokep.boostedyaml.block.implementation.Section;
 import dev.dejvokep.boostedyaml.engine.ExtendedConstructor;
@@ -24,16 +25,21 @@ import dev.dejvokep.boostedyaml.engine.ExtendedRepresenter;
 import dev.dejvokep.boostedyaml.route.Route;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.updater.MergeRule;
+import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.utils.collection.PackedList;
+import dev.dejvokep.boostedyaml.utils.format.NodeRole;
 import org.jetbrains.annotations.NotNull;
-import org.snakeyaml.engine.v2.common.ScalarStyle;
-import org.snakeyaml.engine.v2.nodes.MappingNode;
+import org.jetbrains.annotations.Nullable;
+import org.snakeyaml.engine.v2.comments.CommentLine;
 import org.snakeyaml.engine.v2.nodes.Node;
-import org.snakeyaml.engine.v2.nodes.ScalarNode;
-import org.snakeyaml.engine.v2.nodes.Tag;
 import org.snakeyaml.engine.v2.representer.BaseRepresenter;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.function.Supplier;
 
 /**
@@ -46,6 +52,21 @@ public class Merger {
      */
     private static final Merger INSTANCE = new Merger();
 
+    /**
+     * Immutable types, instances of which do not need to be copied.
+     */
+    private static final Set<Class<?>> IMMUTABLE_TYPES = new HashSet<>(Arrays.asList(String.class, Boolean.class, Character.class,
+            Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class, BigDecimal.class));
+
+    /**
+     * Structural fingerprints of frozen sections, which cannot change anymore.
+     */
+    private static final Map<Section, Long> FINGERPRINTS = Collections.synchronizedMap(new WeakHashMap<>());
+    /**
+     * Fingerprint contributions of terminated and ignored blocks.
+     */
+    private static final long TERMINATED = 0x9e3779b97f4a7c15L, IGNORED = 0xc2b2ae3d27d4eb4fL;
+
     /**
      * Merges the given document with the defaults.
      * <p>
@@ -57,14 +78,57 @@ public class Merger {
      * <p>
      * Additionally, after iteration had finished, deletes all non-merged blocks (those which are not contained in the
      * defaults) from the document, unless {@link UpdaterSettings#isKeepAll()} is enabled.
+     * <p>
+     * If {@link MergeRule#MAPPINGS mappings} are preserved from the document, sections whose structure (keys, their
+     * order, and which of the blocks are sections) matches the equivalent in the defaults are skipped entirely, as
+     * merging would not change them. Structures are compared using fingerprints, computed once per merge for the
+     * document, and only once at all for {@link Block#isFrozen() frozen} defaults.
+     * <p>
+     * If {@link UpdaterSettings#isParallelMerge() enabled}, subsections large enough are merged in parallel, on the
+     * {@link ForkJoinPool#commonPool() common pool} (or the pool this method is called from, if any).
      *
      * @param document the document
      * @param defaults the default equivalent to the document
      * @param settings updater settings to use
-     * @see #iterate(Section, Section, UpdaterSettings)
+     * @see #iterate(Section, Section, UpdaterSettings, Map, Map)
      */
     public static void merge(@NotNull Section document, @NotNull Section defaults, @NotNull UpdaterSettings settings) {
-        INSTANCE.iterate(document, defaults, settings);
+        //Fingerprints
+        Map<Section, Long> fingerprints = settings.getMergeRules().get(MergeRule.MAPPINGS) ? new IdentityHashMap<>() : null;
+        //If not merging in parallel
+        if (!settings.isParallelMerge()) {
+            INSTANCE.iterate(document, defaults, settings, fingerprints, null);
+            return;
+        }
+
+        //Subtree sizes
+        Map<Section, Integer> sizes = new IdentityHashMap<>();
+        //If too small, or already in a pool
+        if (INSTANCE.size(defaults, sizes) < settings.getParallelMergeThreshold() || ForkJoinTask.inForkJoinPool())
+            INSTANCE.iterate(document, defaults, settings, fingerprints, sizes);
+        else
+            ForkJoinPool.commonPool().invoke(ForkJoinTask.adapt(() -> INSTANCE.iterate(document, defaults, settings, fingerprints, sizes)));
+    }
+
+    /**
+     * Deep clones the given (non-root) block into the given parent section, the same way blocks preserved from the
+     * defaults are cloned when merging.
+     * <p>
+     * More formally, copies the structure of the block directly (without representing it into nodes), including the
+     * comments. Values are copied without changing their types - immutable ones (e.g. numbers or enums) are kept as
+     * they are, collections are copied element by element and any other values using the serializer, the
+     * {@link UpdaterSettings#getValueCopier() value copier}, or by representing and constructing them back.
+     * <p>
+     * The returned block is not put into the parent section.
+     *
+     * @param block     the block to clone
+     * @param newParent new parent section of the block
+     * @param settings  updater settings to use
+     * @return the cloned block (with relatives set already)
+     */
+    @NotNull
+    public static Block<?> deepClone(@NotNull Block<?> block, @NotNull Section newParent, @NotNull UpdaterSettings settings) {
+        return INSTANCE.cloneBlock(block, newParent, settings);
     }
 
     /**
@@ -78,17 +142,30 @@ public class Merger {
      * <p>
      * Additionally, after iteration had finished, deletes all non-merged blocks (those which are not contained in the
      * defaults) from the document, unless {@link UpdaterSettings#isKeepAll()} is enabled.
+     * <p>
+     * If fingerprints are given, skips the section if its structure matches the one of the defaults (the fingerprints
+     * rule out most mismatches without walking the sections). If subtree sizes are given, subsections whose subtree in
+     * the defaults is large enough are merged in parallel, once all the other blocks of the section are processed.
      *
-     * @param document the document
-     * @param defaults the default equivalent to the document
-     * @param settings updater settings to use
+     * @param document     the document
+     * @param defaults     the default equivalent to the document
+     * @param settings     updater settings to use
+     * @param fingerprints fingerprints of non-frozen sections computed during this merge, or <code>null</code> to
+     *                     always merge
+     * @param sizes        subtree sizes of sections in the defaults, or <code>null</code> to merge sequentially
      */
-    private void iterate(Section document, Section defaults, UpdaterSettings settings) {
+    private void iterate(Section document, Section defaults, UpdaterSettings settings, @Nullable Map<Section, Long> fingerprints, @Nullable Map<Section, Integer> sizes) {
+        //If the structure matches (fingerprints rule out a mismatch fast, equal ones are confirmed)
+        if (fingerprints != null && fingerprint(document, fingerprints) == fingerprint(defaults, fingerprints) && isSameStructure(document, defaults))
+            return;
+
         //Keys
         Set<Object> documentKeys = new HashSet<>(document.getStoredValue().keySet());
         //Sorting
         boolean sort = settings.getOptionSorting() == UpdaterSettings.OptionSorting.SORT_BY_DEFAULTS;
         Map<Object, Block<?>> sorted = sort ? document.getRoot().getGeneralSettings().getDefaultMap() : null;
+        //Subsections to merge in parallel
+        List<ForkJoinTask<?>> tasks = null;
 
         //Loop through all default entries
         for (Map.Entry<Object, Block<?>> entry : defaults.getStoredValue().entrySet()) {
@@ -119,8 +196,17 @@ public class Merger {
                 boolean isDocumentBlockSection = documentBlock instanceof Section, isDefaultBlockSection = defaultBlock instanceof Section;
                 //If both are sections
                 if (isDefaultBlockSection && isDocumentBlockSection) {
-                    //Iterate
-                    iterate((Section) documentBlock, (Section) defaultBlock, settings);
+                    //If large enough to merge in parallel
+                    if (sizes != null && sizes.get(defaultBlock) >= settings.getParallelMergeThreshold()) {
+                        //Add
+                        if (tasks == null)
+                            tasks = new ArrayList<>();
+                        Section documentSection = (Section) documentBlock, defaultSection = (Section) defaultBlock;
+                        tasks.add(ForkJoinTask.adapt(() -> iterate(documentSection, defaultSection, settings, fingerprints, sizes)));
+                    } else {
+                        //Iterate
+                        iterate((Section) documentBlock, (Section) defaultBlock, settings, fingerprints, sizes);
+                    }
 
                     //If sorting
                     if (sort)
@@ -128,29 +214,36 @@ public class Merger {
                     continue;
                 }
 
+                //Preserved value
+                Block<?> preserved = getPreservedValue(settings.getMergeRules(), documentBlock, () -> cloneBlock(defaultBlock, document, settings), isDocumentBlockSection, isDefaultBlockSection);
                 //Set preserved value
                 if (sort)
-                    sorted.put(key, getPreservedValue(settings.getMergeRules(), documentBlock, () -> cloneBlock(defaultBlock, document), isDocumentBlockSection, isDefaultBlockSection));
-                else
-                    document.set(route, getPreservedValue(settings.getMergeRules(), documentBlock, () -> cloneBlock(defaultBlock, document), isDocumentBlockSection, isDefaultBlockSection));
+                    sorted.put(key, preserved);
+                else if (preserved != documentBlock)
+                    document.set(route, preserved);
                 continue;
             }
 
             //Set cloned
             if (sort)
-                sorted.put(key, cloneBlock(defaultBlock, document));
+                sorted.put(key, cloneBlock(defaultBlock, document, settings));
             else
-                document.set(route, cloneBlock(defaultBlock, document));
+                document.set(route, cloneBlock(defaultBlock, document, settings));
         }
 
+        //Merge in parallel
+        if (tasks != null)
+            ForkJoinTask.invokeAll(tasks);
+
         //If to keep all
         if (settings.isKeepAll()) {
             //If sorting
             if (sort) {
                 //Add remaining
                 documentKeys.forEach(key -> sorted.put(key, document.getStoredValue().get(key)));
-                //Repopulate
-                document.repopulate(sorted);
+                //Repopulate if changed
+                if (!isSame(document.getStoredValue(), sorted))
+                    document.repopulate(sorted);
             }
             return;
         }
@@ -180,11 +273,156 @@ public class Merger {
                 document.remove(route);
         }
 
-        //Repopulate
-        if (sort)
+        //Repopulate if changed
+        if (sort && !isSame(document.getStoredValue(), sorted))
             document.repopulate(sorted);
     }
 
+    /**
+     * Returns if the given maps contain the same keys, mapped to the same block instances, in the same order.
+     *
+     * @param current the current mappings
+     * @param sorted  the sorted mappings
+     * @return if the mappings are the same
+     */
+    private boolean isSame(@NotNull Map<Object, Block<?>> current, @NotNull Map<Object, Block<?>> sorted) {
+        //If sizes differ
+        if (current.size() != sorted.size())
+            return false;
+
+        //Iterators
+        Iterator<Map.Entry<Object, Block<?>>> currentIterator = current.entrySet().iterator(), sortedIterator = sorted.entrySet().iterator();
+        //Compare
+        while (currentIterator.hasNext()) {
+            Map.Entry<Object, Block<?>> currentEntry = currentIterator.next(), sortedEntry = sortedIterator.next();
+            if (!currentEntry.getKey().equals(sortedEntry.getKey()) || currentEntry.getValue() != sortedEntry.getValue())
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Returns if the given sections have the same structure - the same keys (in the same order) and, for each of them,
+     * blocks of the same kind (ignored, section with the same structure, or terminated block). Values and comments are
+     * not compared.
+     * <p>
+     * Used to confirm that sections with equal {@link #fingerprint(Section, Map) fingerprints} really match, as
+     * fingerprints might collide.
+     *
+     * @param document the document section
+     * @param defaults the default section
+     * @return if the structures are the same
+     */
+    private boolean isSameStructure(@NotNull Section document, @NotNull Section defaults) {
+        //If sizes differ
+        if (document.getStoredValue().size() != defaults.getStoredValue().size())
+            return false;
+
+        //Iterators
+        Iterator<Map.Entry<Object, Block<?>>> documentIterator = document.getStoredValue().entrySet().iterator(), defaultIterator = defaults.getStoredValue().entrySet().iterator();
+        //Compare
+        while (documentIterator.hasNext()) {
+            Map.Entry<Object, Block<?>> documentEntry = documentIterator.next(), defaultEntry = defaultIterator.next();
+            //If keys differ
+            if (!Objects.equals(documentEntry.getKey(), defaultEntry.getKey()))
+                return false;
+
+            //Blocks
+            Block<?> documentBlock = documentEntry.getValue(), defaultBlock = defaultEntry.getValue();
+            //If kinds differ
+            if (documentBlock.isIgnored() != defaultBlock.isIgnored())
+                return false;
+            if (documentBlock.isIgnored())
+                continue;
+            if (documentBlock instanceof Section != defaultBlock instanceof Section)
+                return false;
+            if (documentBlock instanceof Section && !isSameStructure((Section) documentBlock, (Section) defaultBlock))
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Computes the amount of blocks in the subtree of the given section (excluding the section itself) and of all its
+     * subsections, storing them in the given map.
+     *
+     * @param section the section
+     * @param sizes   the map to store the sizes in
+     * @return the size of the given section's subtree
+     */
+    private int size(@NotNull Section section, @NotNull Map<Section, Integer> sizes) {
+        //Count
+        int size = 0;
+        for (Block<?> block : section.getStoredValue().values())
+            size += block instanceof Section ? size((Section) block, sizes) + 1 : 1;
+        //Store
+        sizes.put(section, size);
+        return size;
+    }
+
+    /**
+     * Returns the structural fingerprint of the given section - a hash of its keys (in order) and, for each of them,
+     * if the block is ignored, a section (including its fingerprint), or a terminated block. Values and comments do not
+     * affect the fingerprint.
+     * <p>
+     * Fingerprints of all sub-sections are computed as well. They are stored in the given map, or if frozen, cached
+     * permanently.
+     *
+     * @param section      the section
+     * @param fingerprints fingerprints of non-frozen sections computed during this merge
+     * @return the fingerprint
+     */
+    private long fingerprint(@NotNull Section section, @NotNull Map<Section, Long> fingerprints) {
+        //Cache
+        Map<Section, Long> cache = section.isFrozen() ? FINGERPRINTS : fingerprints;
+        Long cached = cache.get(section);
+        if (cached != null)
+            return cached;
+
+        //Compute
+        long fingerprint = 0;
+        for (Map.Entry<Object, Block<?>> entry : section.getStoredValue().entrySet()) {
+            Block<?> block = entry.getValue();
+            fingerprint = mix(fingerprint ^ hash(entry.getKey()));
+            fingerprint = mix(fingerprint ^ (block.isIgnored() ? IGNORED : block instanceof Section ? fingerprint((Section) block, fingerprints) : TERMINATED));
+        }
+        //Cache
+        cache.put(section, fingerprint);
+        return fingerprint;
+    }
+
+    /**
+     * Returns a 64-bit hash of the given key. Unlike {@link String#hashCode()}, hashes of strings differing in any
+     * character are unlikely to collide.
+     *
+     * @param key the key
+     * @return the hash
+     */
+    private long hash(@Nullable Object key) {
+        //String
+        if (key instanceof String) {
+            String string = (String) key;
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < string.length(); i++)
+                hash = (hash ^ string.charAt(i)) * 0x100000001b3L;
+            return hash;
+        }
+        //Other
+        return key == null ? 0 : mix(key.getClass().getName().hashCode()) ^ (key instanceof Integer || key instanceof Long ? ((Number) key).longValue() : key.hashCode());
+    }
+
+    /**
+     * Mixes bits of the given value, so that each bit of the input affects all bits of the output.
+     *
+     * @param value the value to mix
+     * @return the mixed value
+     */
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
     /**
      * Resets ignored setting for sub-blocks of the given section.
      *
@@ -204,109 +442,203 @@ public class Merger {
     /**
      * Deep clones the given block.
      * <p>
-     * More formally, represents the value of the block into nodes and then, constructs them back into Java objects.
+     * More formally, copies the structure of the block directly (without representing it into nodes), including the
+     * comments, copying all the values as defined by {@link #copyValue(Object, YamlDocument, UpdaterSettings)}.
      *
      * @param block     the block to clone
      * @param newParent new parent section of the block to clone
+     * @param settings  updater settings to use
      * @return the cloned block (with relatives set already)
-     * @see #cloneSection(Section, Section)
-     * @see #cloneTerminated(TerminatedBlock, Section)
+     * @see #cloneSection(Section, Section, UpdaterSettings)
+     * @see #cloneTerminated(TerminatedBlock, Section, UpdaterSettings)
      */
     @NotNull
-    private Block<?> cloneBlock(@NotNull Block<?> block, @NotNull Section newParent) {
-        return block instanceof Section ? cloneSection((Section) block, newParent) : cloneTerminated((TerminatedBlock) block, newParent);
+    private Block<?> cloneBlock(@NotNull Block<?> block, @NotNull Section newParent, @NotNull UpdaterSettings settings) {
+        return block instanceof Section ? cloneSection((Section) block, newParent, settings) : cloneTerminated((TerminatedBlock) block, newParent, settings);
     }
 
     /**
      * Deep clones the given section.
      * <p>
-     * More formally, represents the underlying map of the section into nodes and then, constructs them back into Java
-     * map.
+     * More formally, creates a new section with the same comments and clones all the sub-blocks into it.
      *
      * @param section   the section to clone
      * @param newParent new parent section of the section to clone
+     * @param settings  updater settings to use
      * @return the cloned section (with relatives set already)
      */
     @NotNull
-    private Section cloneSection(@NotNull Section section, @NotNull Section newParent) {
+    private Section cloneSection(@NotNull Section section, @NotNull Section newParent, @NotNull UpdaterSettings settings) {
         //If is the root
         if (section.getRoute() == null)
             throw new IllegalArgumentException("Cannot clone the root!");
-        //Root
-        YamlDocument root = section.getRoot();
-        //General settings
-        GeneralSettings generalSettings = root.getGeneralSettings();
-
-        //Create the representer
-        BaseRepresenter representer = new ExtendedRepresenter(generalSettings, root.getDumperSettings());
-        //Create the constructor
-        ExtendedConstructor constructor = new ExtendedConstructor(root.getLoaderSettings().buildEngineSettings(generalSettings), generalSettings.getSerializer());
-        //Represent
-        Node represented = representer.represent(section);
-        //Construct
-        constructor.constructSingleDocument(Optional.of(represented));
 
         //Create
-        section = new Section(newParent.getRoot(), newParent, section.getRoute(), moveComments(represented), (MappingNode) represented, constructor);
-        //Clear
-        constructor.clear();
-        //Create
-        return section;
+        Section cloned = new Section(newParent.getRoot(), newParent, section.getRoute(), section, Collections.emptyMap());
+        //Isolate comments from the defaults
+        copyComments(cloned);
+        //Clone all sub-blocks
+        for (Map.Entry<Object, Block<?>> entry : section.getStoredValue().entrySet())
+            cloned.getStoredValue().put(entry.getKey(), cloneBlock(entry.getValue(), cloned, settings));
+        //Return
+        return cloned;
     }
 
     /**
      * Deep clones the given terminated block.
      * <p>
-     * More formally, represents the value of the entry into nodes and then, constructs them back into a Java object.
+     * More formally, creates a new block with the same comments and a copy of the value.
      *
      * @param entry     the entry to clone
      * @param newParent new parent section of the entry to clone
+     * @param settings  updater settings to use
      * @return the cloned entry (with relatives set already)
      */
     @NotNull
-    private TerminatedBlock cloneTerminated(@NotNull TerminatedBlock entry, @NotNull Section newParent) {
-        //Root
-        YamlDocument root = newParent.getRoot();
+    private TerminatedBlock cloneTerminated(@NotNull TerminatedBlock entry, @NotNull Section newParent, @NotNull UpdaterSettings settings) {
+        //Create
+        TerminatedBlock cloned = new TerminatedBlock(entry, copyValue(entry.getStoredValue(), newParent.getRoot(), settings));
+        //Isolate comments from the defaults
+        copyComments(cloned);
+        //Return
+        return cloned;
+    }
+
+    /**
+     * Deep copies the given value.
+     * <p>
+     * Immutable scalars are returned as they are, byte arrays and {@link PackedList packed lists} are copied directly.
+     * Lists, sets and maps are copied into instances supplied by the {@link GeneralSettings general settings} of the
+     * given root, element by element. Objects supported by the {@link YamlSerializer serializer} are serialized, copied
+     * as maps and deserialized back. Any other value is copied using the {@link UpdaterSettings#getValueCopier() value
+     * copier}, or if not set, by representing it into nodes and constructing it back into a Java object.
+     *
+     * @param value    the value to copy
+     * @param root     root of the document the copy will belong to
+     * @param settings updater settings to use
+     * @return the copied value
+     */
+    @Nullable
+    private Object copyValue(@Nullable Object value, @NotNull YamlDocument root, @NotNull UpdaterSettings settings) {
+        //If immutable
+        if (value == null || IMMUTABLE_TYPES.contains(value.getClass()) || value instanceof Enum)
+            return value;
+        //Packed list
+        if (value instanceof PackedList)
+            return ((PackedList<?>) value).copy();
+        //Binary
+        if (value instanceof byte[])
+            return ((byte[]) value).clone();
+
         //General settings
         GeneralSettings generalSettings = root.getGeneralSettings();
+        //List
+        if (value instanceof List) {
+            List<?> list = (List<?>) value;
+            List<Object> copy = generalSettings.getDefaultList(list.size());
+            for (Object element : list)
+                copy.add(copyValue(element, root, settings));
+            return copy;
+        }
+        //Set
+        if (value instanceof Set) {
+            Set<?> set = (Set<?>) value;
+            Set<Object> copy = generalSettings.getDefaultSet(set.size());
+            for (Object element : set)
+                copy.add(copyValue(element, root, settings));
+            return copy;
+        }
+        //Map
+        if (value instanceof Map)
+            return copyMap((Map<?, ?>) value, root, settings);
+
+        //Serializer
+        YamlSerializer serializer = generalSettings.getSerializer();
+        //If serializable
+        if (isSerializable(serializer, value.getClass())) {
+            //Serialize
+            Map<Object, Object> serialized = serializer.serialize(value, generalSettings.getDefaultMapSupplier());
+            //If serialized
+            if (serialized != null) {
+                //Copy and deserialize
+                Map<Object, Object> copy = copyMap(serialized, root, settings);
+                Object deserialized = serializer.deserialize(copy);
+                return deserialized == null ? copy : deserialized;
+            }
+        }
+
+        //Copy using the copier
+        if (settings.getValueCopier() != null)
+            return settings.getValueCopier().copy(value);
 
         //Create the representer
         BaseRepresenter representer = new ExtendedRepresenter(generalSettings, root.getDumperSettings());
         //Create the constructor
         ExtendedConstructor constructor = new ExtendedConstructor(root.getLoaderSettings().buildEngineSettings(generalSettings), generalSettings.getSerializer());
         //Represent
-        Node represented = representer.represent(entry.getStoredValue());
+        Node represented = representer.represent(value);
         //Construct
         constructor.constructSingleDocument(Optional.of(represented));
-
-        //Create
-        entry = new TerminatedBlock(entry, constructor.getConstructed(represented));
+        //Constructed
+        Object constructed = constructor.getConstructed(represented);
         //Clear
         constructor.clear();
         //Return
-        return entry;
+        return constructed;
     }
 
     /**
-     * Creates a dummy node to which comments from the given node are moved. That is, the comments attached to the given
-     * node will be removed.
+     * Deep copies the given map into an instance supplied by the {@link GeneralSettings general settings} of the given
+     * root, copying all the keys and values as defined by {@link #copyValue(Object, YamlDocument, UpdaterSettings)}.
      *
-     * @param node the node to move comments from
-     * @return a new, dummy node with comments from the given node
+     * @param map      the map to copy
+     * @param root     root of the document the copy will belong to
+     * @param settings updater settings to use
+     * @return the copied map
+     */
+    @NotNull
+    private Map<Object, Object> copyMap(@NotNull Map<?, ?> map, @NotNull YamlDocument root, @NotNull UpdaterSettings settings) {
+        Map<Object, Object> copy = root.getGeneralSettings().getDefaultMap(map.size());
+        for (Map.Entry<?, ?> entry : map.entrySet())
+            copy.put(copyValue(entry.getKey(), root, settings), copyValue(entry.getValue(), root, settings));
+        return copy;
+    }
+
+    /**
+     * Returns if the given type is supported by the given serializer, either explicitly or as a sub-class of any of the
+     * supported parent classes.
+     *
+     * @param serializer the serializer
+     * @param type       the type to check
+     * @return if the type is supported
      */
-    private Node moveComments(@NotNull Node node) {
-        // Dummy node
-        ScalarNode scalarNode = new ScalarNode(Tag.STR, "", ScalarStyle.PLAIN);
-        // Move
-        scalarNode.setBlockComments(node.getBlockComments());
-        scalarNode.setInLineComments(node.getInLineComments());
-        scalarNode.setEndComments(node.getEndComments());
-        // Delete
-        node.setBlockComments(Collections.emptyList());
-        node.setInLineComments(null);
-        node.setEndComments(null);
-        // Return
-        return scalarNode;
+    private boolean isSerializable(@NotNull YamlSerializer serializer, @NotNull Class<?> type) {
+        //Explicitly
+        if (serializer.getSupportedClasses().contains(type))
+            return true;
+        //Parent classes
+        for (Class<?> parent : serializer.getSupportedParentClasses()) {
+            if (parent.isAssignableFrom(type))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Replaces all comment lists of the given block with copies, so that the block does not share them with the block
+     * it was cloned from.
+     *
+     * @param block the block
+     */
+    private void copyComments(@NotNull Block<?> block) {
+        //Copy
+        for (NodeRole role : NodeRole.values()) {
+            for (Comments.Position position : Comments.Position.values()) {
+                List<CommentLine> comments = Comments.get(block, role, position);
+                if (comments != null)
+                    Comments.set(block, role, position, comments);
+            }
+        }
     }
 
     /**
@@ -21,6 +21,7 @@ import dev.dejvokep.boostedyaml.route.Route;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
@@ -37,15 +38,22 @@ public class Relocator {
 
     /**
      * Applies the provided relocations to the given section.
+     * <p>
+     * The given map is not modified, therefore, it can be immutable.
      *
      * @param section     the section
      * @param relocations the relocations to apply
      */
     public static void apply(@NotNull Section section, @NotNull Map<Route, Route> relocations) {
+        //Nothing to apply
+        if (relocations.isEmpty())
+            return;
+        //Relocations left to apply
+        Map<Route, Route> remaining = new HashMap<>(relocations);
         //Go through all entries
-        while (relocations.size() > 0)
+        while (remaining.size() > 0)
             //Apply
-            INSTANCE.apply(section, relocations, relocations.keySet().iterator().next());
+            INSTANCE.apply(section, remaining, remaining.keySet().iterator().next());
     }
 
     /**
@@ -86,7 +94,7 @@ public class Relocator {
 
         //Remove
         relocations.remove(from);
-        parent.get().getStoredValue().remove(lastKey);
+        parent.get().remove(Route.fromSingleKey(lastKey));
         removeParents(parent.get());
 
         //Relocate to
@@ -106,7 +114,7 @@ public class Relocator {
         //If empty
         if (section.isEmpty(false) && !section.isRoot()) {
             //Remove
-            section.getParent().getStoredValue().remove(section.getName());
+            section.getParent().remove(Route.fromSingleKey(section.getName()));
             //Parents
             removeParents(section.getParent());
         }
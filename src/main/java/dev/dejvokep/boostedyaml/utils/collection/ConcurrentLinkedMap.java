@@ -0,0 +1,431 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.utils.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A thread-safe map preserving insertion order of its entries, like {@link LinkedHashMap}.
+ * <p>
+ * Retrievals (e.g. {@link #get(Object)}, {@link #containsKey(Object)}) do not block and are served by a backing
+ * {@link ConcurrentHashMap}. Modifications are atomic and serialized by a lock owned by the map, therefore, two
+ * different maps can be modified concurrently with no contention. Iterators (and the {@link #entrySet() entry set},
+ * {@link #keySet() key set} and {@link #values() values} views) are weakly consistent - they never throw
+ * {@link ConcurrentModificationException} and traverse the entries in insertion order, as they existed when the
+ * iterator was created, possibly (but not necessarily) reflecting any later modifications.
+ * <p>
+ * Unlike {@link ConcurrentHashMap}, this map supports <code>null</code> keys and values. Please note that default
+ * implementations of the compute and merge methods (inherited from {@link ConcurrentMap}) treat a <code>null</code>
+ * value as absent.
+ *
+ * @param <K> type of the keys
+ * @param <V> type of the values
+ */
+public class ConcurrentLinkedMap<K, V> extends AbstractMap<K, V> implements ConcurrentMap<K, V> {
+
+    /**
+     * Key used to store the <code>null</code> key in the backing map (which does not support it).
+     */
+    private static final Object NULL_KEY = new Object();
+
+    //Entries by their keys
+    private final ConcurrentHashMap<Object, Node> nodes;
+    //Head (not an entry) of the list of entries, in insertion order
+    private final Node head = new Node(null, null);
+    //Last entry (guarded by the lock)
+    private Node tail = head;
+    //Lock serializing modifications
+    private final Object lock = new Object();
+    //Entry set
+    private Set<Map.Entry<K, V>> entrySet;
+
+    /**
+     * Creates an empty map.
+     */
+    public ConcurrentLinkedMap() {
+        this(16);
+    }
+
+    /**
+     * Creates an empty map with the given initial capacity.
+     *
+     * @param initialCapacity the initial capacity
+     */
+    public ConcurrentLinkedMap(int initialCapacity) {
+        this.nodes = new ConcurrentHashMap<>(initialCapacity);
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return nodes.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(@Nullable Object key) {
+        return nodes.containsKey(mask(key));
+    }
+
+    @Override
+    public V get(@Nullable Object key) {
+        Node node = nodes.get(mask(key));
+        return node == null ? null : node.value;
+    }
+
+    @Override
+    public V getOrDefault(@Nullable Object key, V defaultValue) {
+        Node node = nodes.get(mask(key));
+        return node == null ? defaultValue : node.value;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        synchronized (lock) {
+            //Existing entry
+            Node node = nodes.get(mask(key));
+            if (node != null)
+                return node.replace(value);
+            //Add
+            link(key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public V putIfAbsent(@NotNull K key, V value) {
+        synchronized (lock) {
+            //Existing entry
+            Node node = nodes.get(mask(key));
+            if (node != null)
+                return node.value;
+            //Add
+            link(key, value);
+            return null;
+        }
+    }
+
+    @Override
+    public V remove(@Nullable Object key) {
+        synchronized (lock) {
+            //Remove
+            Node node = nodes.remove(mask(key));
+            if (node == null)
+                return null;
+            unlink(node);
+            return node.value;
+        }
+    }
+
+    @Override
+    public boolean remove(@Nullable Object key, @Nullable Object value) {
+        synchronized (lock) {
+            //Entry
+            Node node = nodes.get(mask(key));
+            if (node == null || !Objects.equals(node.value, value))
+                return false;
+            //Remove
+            nodes.remove(mask(key));
+            unlink(node);
+            return true;
+        }
+    }
+
+    @Override
+    public boolean replace(@NotNull K key, @Nullable V oldValue, @Nullable V newValue) {
+        synchronized (lock) {
+            //Entry
+            Node node = nodes.get(mask(key));
+            if (node == null || !Objects.equals(node.value, oldValue))
+                return false;
+            //Replace
+            node.value = newValue;
+            return true;
+        }
+    }
+
+    @Override
+    public V replace(@NotNull K key, @Nullable V value) {
+        synchronized (lock) {
+            //Entry
+            Node node = nodes.get(mask(key));
+            return node == null ? null : node.replace(value);
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (lock) {
+            //Clear
+            nodes.clear();
+            //Mark as removed
+            for (Node node = head.next; node != null; node = node.next)
+                node.removed = true;
+            head.next = null;
+            tail = head;
+        }
+    }
+
+    @NotNull
+    @Override
+    public Set<Map.Entry<K, V>> entrySet() {
+        return entrySet == null ? entrySet = new EntrySet() : entrySet;
+    }
+
+    /**
+     * Creates a new entry and appends it to the end of the list. Must only be called while holding the lock.
+     *
+     * @param key   the key
+     * @param value the value
+     */
+    private void link(@Nullable K key, @Nullable V value) {
+        //Create
+        Node node = new Node(key, value);
+        //Append (publishes the entry to iterators)
+        node.prev = tail;
+        tail.next = node;
+        tail = node;
+        //Add
+        nodes.put(mask(key), node);
+    }
+
+    /**
+     * Unlinks the given (already removed from the backing map) entry from the list. The entry keeps its reference to
+     * the next one, so iterators positioned at it can continue. Must only be called while holding the lock.
+     *
+     * @param node the entry to unlink
+     */
+    private void unlink(@NotNull Node node) {
+        //Mark
+        node.removed = true;
+        //Unlink
+        Node prev = node.prev, next = node.next;
+        prev.next = next;
+        if (next != null)
+            next.prev = prev;
+        else
+            tail = prev;
+    }
+
+    /**
+     * Removes the given entry, if still present in the map.
+     *
+     * @param node the entry to remove
+     */
+    private void removeNode(@NotNull Node node) {
+        synchronized (lock) {
+            //If not present anymore
+            if (node.removed)
+                return;
+            //Remove
+            nodes.remove(mask(node.key));
+            unlink(node);
+        }
+    }
+
+    /**
+     * Returns the key used to store the given key in the backing map.
+     *
+     * @param key the key
+     * @return the key to use in the backing map
+     */
+    @NotNull
+    private static Object mask(@Nullable Object key) {
+        return key == null ? NULL_KEY : key;
+    }
+
+    /**
+     * An entry of the map.
+     */
+    private class Node implements Map.Entry<K, V> {
+
+        //Key
+        private final K key;
+        //Value
+        private volatile V value;
+        //Next entry
+        private volatile Node next;
+        //Previous entry (guarded by the lock)
+        private Node prev;
+        //If removed
+        private volatile boolean removed;
+
+        /**
+         * Creates an entry.
+         *
+         * @param key   the key
+         * @param value the value
+         */
+        private Node(@Nullable K key, @Nullable V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+        /**
+         * Replaces the value. Must only be called while holding the lock.
+         *
+         * @param value the new value
+         * @return the previous value
+         */
+        private V replace(@Nullable V value) {
+            V previous = this.value;
+            this.value = value;
+            return previous;
+        }
+
+        @Override
+        public K getKey() {
+            return key;
+        }
+
+        @Override
+        public V getValue() {
+            return value;
+        }
+
+        @Override
+        public V setValue(V value) {
+            synchronized (lock) {
+                return replace(value);
+            }
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return Objects.equals(key, entry.getKey()) && Objects.equals(value, entry.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(key) ^ Objects.hashCode(value);
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + value;
+        }
+
+    }
+
+    /**
+     * Entry set view of the map.
+     */
+    private class EntrySet extends AbstractSet<Map.Entry<K, V>> {
+
+        @NotNull
+        @Override
+        public Iterator<Map.Entry<K, V>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return ConcurrentLinkedMap.this.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            Node node = nodes.get(mask(entry.getKey()));
+            return node != null && Objects.equals(node.value, entry.getValue());
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            if (!(o instanceof Map.Entry))
+                return false;
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) o;
+            return ConcurrentLinkedMap.this.remove(entry.getKey(), entry.getValue());
+        }
+
+        @Override
+        public void clear() {
+            ConcurrentLinkedMap.this.clear();
+        }
+
+    }
+
+    /**
+     * Weakly consistent iterator over the entries.
+     */
+    private class EntryIterator implements Iterator<Map.Entry<K, V>> {
+
+        //Last returned entry (or the head)
+        private Node current = head;
+        //Next entry to return, if already found
+        private Node next;
+        //Last returned entry, if not removed via this iterator
+        private Node last;
+
+        @Override
+        public boolean hasNext() {
+            //Find (again, if removed in the meantime)
+            if (next == null || next.removed)
+                next = advance(current);
+            return next != null;
+        }
+
+        @Override
+        public Map.Entry<K, V> next() {
+            //If none
+            if (!hasNext())
+                throw new NoSuchElementException();
+            //Move
+            current = last = next;
+            next = null;
+            return last;
+        }
+
+        @Override
+        public void remove() {
+            //If none
+            if (last == null)
+                throw new IllegalStateException();
+            //Remove
+            removeNode(last);
+            last = null;
+        }
+
+        /**
+         * Returns the first entry following the given one, which is not removed.
+         *
+         * @param node the entry to advance from
+         * @return the next entry, or <code>null</code> if there is none
+         */
+        @Nullable
+        private Node advance(@NotNull Node node) {
+            Node next = node.next;
+            while (next != null && next.removed)
+                next = next.next;
+            return next;
+        }
+
+    }
+
+}
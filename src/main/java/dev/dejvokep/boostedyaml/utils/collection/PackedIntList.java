@@ -0,0 +1,199 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.utils.collection;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * A {@link PackedList packed list} of {@link Integer integers}, backed by a <code>int[]</code>.
+ */
+public class PackedIntList extends PackedList<Integer> {
+
+    //Values
+    private int[] values;
+
+    /**
+     * Creates an empty list.
+     */
+    public PackedIntList() {
+        this(new int[0], 0);
+    }
+
+    /**
+     * Creates a list backed by the given array (which is not copied), containing the first <code>size</code> elements
+     * of the array.
+     *
+     * @param values the backing array
+     * @param size   the amount of elements
+     */
+    public PackedIntList(@NotNull int[] values, int size) {
+        super(size);
+        if (size < 0 || size > values.length)
+            throw new IllegalArgumentException("Size " + size + " is out of bounds of the array (length " + values.length + ")!");
+        this.values = values;
+    }
+
+    /**
+     * Creates a list backed by the given array (which is not copied).
+     *
+     * @param values the backing array
+     */
+    public PackedIntList(@NotNull int[] values) {
+        this(values, values.length);
+    }
+
+    /**
+     * Creates a packed list from the given list, all elements of which must be {@link Integer integers}.
+     *
+     * @param list the list to pack
+     * @return the packed list
+     */
+    @NotNull
+    static PackedIntList of(@NotNull List<?> list) {
+        int[] values = new int[list.size()];
+        for (int i = 0; i < values.length; i++)
+            values[i] = (Integer) list.get(i);
+        return new PackedIntList(values);
+    }
+
+    /**
+     * Returns the element at the given index, without boxing it.
+     *
+     * @param index the index
+     * @return the element
+     */
+    public int getInt(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    /**
+     * Sets the element at the given index, without boxing it.
+     *
+     * @param index   the index
+     * @param element the element
+     * @return the previous element
+     */
+    public int setInt(int index, int element) {
+        checkIndex(index);
+        int previous = values[index];
+        values[index] = element;
+        return previous;
+    }
+
+    /**
+     * Appends the given element, without boxing it.
+     *
+     * @param element the element
+     */
+    public void addInt(int element) {
+        //Grow
+        if (size == values.length)
+            values = Arrays.copyOf(values, grow(values.length, size + 1));
+        //Add
+        values[size++] = element;
+        modCount++;
+    }
+
+    /**
+     * Returns the backing array, without copying it. Lists created by {@link PackedList#pack(List)} are backed by
+     * arrays of their exact size; once elements are added, the array might be longer than this list (see
+     * {@link #trimToSize()}) - only the first {@link #size()} elements belong to the list.
+     * <p>
+     * <b>Changes made to the array are reflected in this list, and vice versa, until this list is structurally modified
+     * (its size changes). To get the contents without exposing the list, use {@link #toIntArray()} instead.</b>
+     *
+     * @return the backing array
+     */
+    @NotNull
+    public int[] array() {
+        return values;
+    }
+
+    /**
+     * Returns a copy of the contents of this list, as a new array.
+     *
+     * @return the contents of this list
+     */
+    @NotNull
+    public int[] toIntArray() {
+        return Arrays.copyOf(values, size);
+    }
+
+    /**
+     * Returns a copy of this list, backed by a copy of the backing array.
+     *
+     * @return the copy
+     */
+    @NotNull
+    @Override
+    public PackedIntList copy() {
+        return new PackedIntList(toIntArray());
+    }
+
+    @Override
+    public void trimToSize() {
+        if (values.length != size)
+            values = Arrays.copyOf(values, size);
+    }
+
+    @Override
+    public Integer get(int index) {
+        checkIndex(index);
+        return values[index];
+    }
+
+    @Override
+    public Integer set(int index, Integer element) {
+        return setInt(index, element);
+    }
+
+    @Override
+    public void add(int index, Integer element) {
+        checkPositionIndex(index);
+        int value = element;
+        //Grow
+        if (size == values.length)
+            values = Arrays.copyOf(values, grow(values.length, size + 1));
+        //Shift
+        System.arraycopy(values, index, values, index + 1, size - index);
+        //Set
+        values[index] = value;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Integer remove(int index) {
+        checkIndex(index);
+        int previous = values[index];
+        //Shift
+        System.arraycopy(values, index + 1, values, index, size - index - 1);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        size = 0;
+        modCount++;
+    }
+
+}
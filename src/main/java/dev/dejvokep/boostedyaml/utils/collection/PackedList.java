@@ -0,0 +1,140 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.utils.collection;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * A list of numbers backed by an array of primitives, instead of an array of wrapper objects.
+ * <p>
+ * Packed lists are random access lists supporting all optional operations, with the exception that they cannot contain
+ * <code>null</code> elements, nor elements of any other type than the one they are specialized for. An attempt to add
+ * such an element results in a {@link NullPointerException}, respectively {@link ClassCastException}.
+ * <p>
+ * Elements are boxed only when retrieved via {@link #get(int)} (or an iterator); primitive accessors of the
+ * implementations do not box.
+ *
+ * @param <T> type of the elements
+ * @see PackedIntList
+ * @see PackedLongList
+ * @see PackedDoubleList
+ */
+public abstract class PackedList<T extends Number> extends AbstractList<T> implements RandomAccess {
+
+    /**
+     * Minimum capacity of a non-empty backing array.
+     */
+    static final int MIN_CAPACITY = 10;
+
+    //Size
+    int size;
+
+    /**
+     * Creates a list with the given size.
+     *
+     * @param size the size
+     */
+    PackedList(int size) {
+        this.size = size;
+    }
+
+    /**
+     * Packs the given list, if all of its elements are {@link Integer integers}, {@link Long longs} or
+     * {@link Double doubles} (all of the same type). Otherwise (or if the list is empty), returns <code>null</code>.
+     * <p>
+     * The given list is not modified, nor referenced by the packed one.
+     *
+     * @param list the list to pack
+     * @return the packed list, or <code>null</code> if not eligible for packing
+     */
+    @Nullable
+    public static PackedList<?> pack(@NotNull List<?> list) {
+        //If empty
+        if (list.isEmpty())
+            return null;
+
+        //Type of the first element
+        Object first = list.get(0);
+        Class<?> type = first == null ? null : first.getClass();
+        if (type != Integer.class && type != Long.class && type != Double.class)
+            return null;
+        //All elements must be of the same type
+        for (Object element : list) {
+            if (element == null || element.getClass() != type)
+                return null;
+        }
+
+        //Pack
+        return type == Integer.class ? PackedIntList.of(list) : type == Long.class ? PackedLongList.of(list) : PackedDoubleList.of(list);
+    }
+
+    /**
+     * Trims the backing array to the size of this list.
+     */
+    public abstract void trimToSize();
+
+    /**
+     * Returns a copy of this list, backed by a copy of the backing array.
+     *
+     * @return the copy
+     */
+    @NotNull
+    public abstract PackedList<T> copy();
+
+    /**
+     * Returns capacity to grow the backing array of the given capacity to, so it can hold at least the given amount of
+     * elements.
+     *
+     * @param capacity    current capacity
+     * @param minCapacity required capacity
+     * @return the new capacity
+     */
+    static int grow(int capacity, int minCapacity) {
+        return Math.max(Math.max(minCapacity, MIN_CAPACITY), capacity + (capacity >> 1));
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException} if the given index is not an index of an element.
+     *
+     * @param index the index
+     */
+    void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    /**
+     * Throws an {@link IndexOutOfBoundsException} if the given index is not an index at which an element can be
+     * inserted.
+     *
+     * @param index the index
+     */
+    void checkPositionIndex(int index) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+}
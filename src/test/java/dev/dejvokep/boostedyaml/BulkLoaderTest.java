@@ -0,0 +1,158 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml;
+
+import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
+import dev.dejvokep.boostedyaml.utils.supplier.MapSupplier;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BulkLoaderTest {
+
+    @Test
+    void load(@TempDir Path directory) throws IOException {
+        // Files
+        File a = write(directory, "a.yml", "x: 5"), b = write(directory, "b.yml", "x: [a"), c = directory.resolve("c.yml").toFile();
+        // Executor
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // Load
+            BulkLoader.Result result = BulkLoader.load(Arrays.asList(a, b, c), createStream("x: 1\ny: 2"), executor, true);
+            // Assert
+            assertFalse(result.isSuccessful());
+            assertEquals(Arrays.asList(a, c), Arrays.asList(result.getDocuments().keySet().toArray()));
+            assertEquals(1, result.getErrors().size());
+            assertTrue(result.getErrors().containsKey(b));
+            // Documents
+            YamlDocument first = result.getDocuments().get(a), third = result.getDocuments().get(c);
+            assertEquals(5, first.getInt("x"));
+            assertEquals(2, first.getInt("y"));
+            assertEquals(1, third.getInt("x"));
+            assertSame(first.getDefaults(), third.getDefaults());
+            // Saved
+            assertEquals("x: 5\ny: 2\n", new String(Files.readAllBytes(a.toPath()), StandardCharsets.UTF_8));
+            assertEquals("x: 1\ny: 2\n", new String(Files.readAllBytes(c.toPath()), StandardCharsets.UTF_8));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadWithoutDefaults(@TempDir Path directory) throws IOException {
+        // Files
+        File a = write(directory, "a.yml", "x: 5");
+        // Load
+        BulkLoader.Result result = BulkLoader.load(Arrays.asList(a, directory.resolve("b.yml").toFile()), null);
+        // Assert
+        assertTrue(result.isSuccessful());
+        assertEquals(5, result.getDocuments().get(a).getInt("x"));
+        assertNull(result.getDocuments().get(a).getDefaults());
+        assertTrue(result.getDocuments().get(directory.resolve("b.yml").toFile()).isEmpty(false));
+    }
+
+    @Test
+    void loadDuplicates(@TempDir Path directory) throws IOException {
+        // Files
+        File a = write(directory, "a.yml", "x: 5");
+        // Executor
+        AtomicInteger tasks = new AtomicInteger();
+        // Load
+        BulkLoader.Result result = BulkLoader.load(Arrays.asList(a, new File(a.getPath()), a), createStream("x: 1\ny: 2"), command -> {
+            tasks.incrementAndGet();
+            command.run();
+        }, true);
+        // Assert
+        assertTrue(result.isSuccessful());
+        assertEquals(1, tasks.get());
+        assertEquals(Collections.singleton(a), result.getDocuments().keySet());
+        assertEquals("x: 5\ny: 2\n", new String(Files.readAllBytes(a.toPath()), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void loadBounded(@TempDir Path directory) throws IOException {
+        // Files
+        List<File> files = new ArrayList<>();
+        for (int i = 0; i < 50; i++)
+            files.add(write(directory, i + ".yml", "x: " + i));
+        // Executor
+        ExecutorService executor = new ThreadPoolExecutor(2, 2, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(4));
+        try {
+            // Load
+            BulkLoader.Result result = BulkLoader.load(files, createStream("x: -1\ny: 2"), executor, false);
+            // Assert
+            assertTrue(result.isSuccessful());
+            assertEquals(files, new ArrayList<>(result.getDocuments().keySet()));
+            for (int i = 0; i < 50; i++)
+                assertEquals(i, result.getDocuments().get(files.get(i)).getInt("x"));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void loadError(@TempDir Path directory) throws IOException {
+        // Files
+        File a = write(directory, "a.yml", "x: 5"), b = write(directory, "b.yml", "x: 6");
+        // Settings (an error thrown while loading the first file)
+        AtomicBoolean thrown = new AtomicBoolean();
+        GeneralSettings settings = GeneralSettings.builder().setDefaultMap(new MapSupplier() {
+            @NotNull
+            @Override
+            public <K, V> Map<K, V> supply(int size) {
+                if (!thrown.getAndSet(true))
+                    throw new StackOverflowError();
+                return new LinkedHashMap<>(size);
+            }
+        }).build();
+        // Load
+        BulkLoader.Result result = BulkLoader.load(Arrays.asList(a, b), (YamlDocument) null, Runnable::run, false, settings);
+        // Assert
+        assertEquals(Collections.singleton(b), result.getDocuments().keySet());
+        assertTrue(result.getErrors().get(a) instanceof StackOverflowError);
+        assertEquals(6, result.getDocuments().get(b).getInt("x"));
+    }
+
+    private File write(Path directory, String name, String content) throws IOException {
+        File file = directory.resolve(name).toFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+
+    private InputStream createStream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -15,17 +15,32 @@
  */
 package dev.dejvokep.boostedyaml;
 
+import dev.dejvokep.boostedyaml.block.Block;
+import dev.dejvokep.boostedyaml.block.implementation.Section;
+import dev.dejvokep.boostedyaml.dvs.versioning.BasicVersioning;
+import dev.dejvokep.boostedyaml.route.Route;
 import dev.dejvokep.boostedyaml.settings.dumper.DumperSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.utils.collection.ConcurrentLinkedMap;
+import dev.dejvokep.boostedyaml.utils.collection.PackedIntList;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.snakeyaml.engine.v2.common.FlowStyle;
+import org.snakeyaml.engine.v2.exceptions.DuplicateKeyException;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class YamlDocumentTest {
 
@@ -46,12 +61,353 @@ class YamlDocumentTest {
         assertFalse(file.reload());
     }
 
+    @Test
+    void loadAliases() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a: &x\n  k:\n    z: 1\n  l: &y [1, 2]\nb: *x\nc:\n  d: *x\n  e: *y\nf: [*x, {g: 3}]\nk: 1\nk: 2"));
+        // Assert
+        assertEquals(1, file.getInt("a.k.z"));
+        assertEquals(1, file.getInt("b.k.z"));
+        assertEquals(1, file.getInt("c.d.k.z"));
+        assertEquals(Arrays.asList(1, 2), file.getList("c.e"));
+        assertSame(file.getList("a.l"), file.getList("c.e"));
+        assertEquals(2, file.getList("f").size());
+        assertEquals(2, file.getInt("k"));
+        assertEquals(Arrays.asList("a", "b", "c", "f", "k"), new ArrayList<>(file.getKeys()));
+    }
+
+    @Test
+    void loadLazy() throws IOException {
+        // Content
+        String content = "# a\na:\n  # b\n  b:\n    c: 1 # c\n    d: [1, 2]\n  e: &x\n    f: true\nm:\n  h: *x\n  g: abc\n";
+        // Create
+        YamlDocument file = YamlDocument.create(createStream(content), LoaderSettings.builder().setLazySections(true).build());
+        // Assert
+        assertFalse(file.isModified());
+        assertEquals(1, file.getInt("a.b.c"));
+        assertEquals(Arrays.asList(1, 2), file.getIntList("a.b.d"));
+        assertTrue(file.getBoolean("m.h.f"));
+        assertEquals(" b", file.getSection("a.b").getComments().get(0));
+        assertFalse(file.isModified());
+        // Set
+        file.set("m.g", "xyz");
+        // Assert
+        assertTrue(file.isModified());
+        assertEquals(YamlDocument.create(createStream(content.replace("abc", "xyz"))).dump(), file.dump());
+        assertEquals(YamlDocument.create(createStream(content)).dump(), YamlDocument.create(createStream(content), LoaderSettings.builder().setLazySections(true).build()).dump());
+    }
+
+    @Test
+    void loadLazyConcurrently() throws Exception {
+        // Content
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 200; i++)
+            content.append("s").append(i).append(":\n  a:\n    b: ").append(i).append("\n  c: [").append(i).append(", x]\n");
+        // Create
+        YamlDocument file = YamlDocument.create(createStream(content.toString()), LoaderSettings.builder().setLazySections(true).build());
+        Section previous = (Section) file.getStoredValue().get("s0");
+        // Reload (sections of the previous load are not loaded yet)
+        file.reload(createStream(content.toString()));
+        // Assert
+        assertEquals(0, previous.getInt("a.b"));
+        // Read
+        Thread[] threads = new Thread[8];
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                try {
+                    for (int j = 0; j < 200; j++) {
+                        assertEquals(j, file.getInt("s" + j + ".a.b"));
+                        assertEquals(Arrays.asList(j, "x"), file.getList("s" + j + ".c"));
+                    }
+                } catch (Throwable ex) {
+                    errors.add(ex);
+                }
+            });
+        }
+        // Run
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        // Assert
+        assertEquals(Collections.emptyList(), errors);
+    }
+
+    @Test
+    void loadLazyFailure() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a:\n  x: 1\n  x: 2\n  y: 3\nb: 2"), LoaderSettings.builder().setLazySections(true).setAllowDuplicateKeys(false).build());
+        // Assert (the failure is repeated on every access)
+        assertThrows(DuplicateKeyException.class, () -> file.get("a.y"));
+        assertThrows(DuplicateKeyException.class, () -> file.get("a.y"));
+        assertThrows(DuplicateKeyException.class, () -> file.getSection("a").getKeys());
+        assertThrows(DuplicateKeyException.class, file::dump);
+        assertThrows(DuplicateKeyException.class, file::dump);
+    }
+
+    @Test
+    void loadLazyReload() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a: 1"), GeneralSettings.builder().setRouteIndex(true).build());
+        // Assert
+        assertNotNull(file.getRouteIndex(true));
+        // Reload
+        file.reload(createStream("a:\n  b:\n    c: 1\n    d: [1, 2]\n"), LoaderSettings.builder().setLazySections(true).setPackNumericLists(true).build());
+        // Assert
+        assertNull(file.getRouteIndex(true));
+        assertEquals(1, file.getInt("a.b.c"));
+        assertTrue(file.getList("a.b.d") instanceof PackedIntList);
+        // Reload
+        file.reload(createStream("a: 2"));
+        // Assert
+        assertNotNull(file.getRouteIndex(true));
+        assertEquals(2, file.getInt("a"));
+    }
+
+    @Test
+    void loadFile(@TempDir Path directory) throws IOException {
+        // File
+        File file = directory.resolve("file.yml").toFile();
+        Files.write(file.toPath(), "# c\nm: 2\nn: x\nu: \u00e1\u00e9".getBytes(StandardCharsets.UTF_8));
+        // Load
+        for (LoaderSettings settings : new LoaderSettings[]{LoaderSettings.DEFAULT, LoaderSettings.builder().setReadBufferSize(2).build(), LoaderSettings.builder().setMemoryMapping(true).build()}) {
+            // Create
+            YamlDocument document = YamlDocument.create(file, settings);
+            // Assert
+            assertEquals(2, document.getInt("m"));
+            assertEquals("x", document.getString("n"));
+            assertEquals("\u00e1\u00e9", document.getString("u"));
+            assertEquals("# c\nm: 2\nn: x\nu: \u00e1\u00e9\n", document.dump());
+            assertTrue(document.reload());
+            assertEquals(2, document.getInt("m"));
+        }
+    }
+
+    @Test
+    void createAll() throws IOException {
+        // Create
+        Iterator<YamlDocument> iterator = YamlDocument.createAll(createStream("# a\na: 1\n---\nb:\n  c: &x [1]\n  d: *x\n---\ne: true"), GeneralSettings.builder().setRouteSeparator('/').build());
+        // Assert
+        assertTrue(iterator.hasNext());
+        YamlDocument document = iterator.next();
+        assertEquals(1, document.getInt("a"));
+        assertEquals("# a\na: 1\n", document.dump());
+        document = iterator.next();
+        assertEquals(Collections.singletonList(1), document.getList("b/d"));
+        assertEquals('/', document.getGeneralSettings().getRouteSeparator());
+        assertTrue(iterator.next().getBoolean("e"));
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+        // Stream
+        assertEquals(3, YamlDocument.streamAll(createStream("a: 1\n---\nb: 2\n---\nc: 3")).count());
+        assertEquals(0, YamlDocument.streamAll(createStream("")).count());
+        // Invalid
+        assertThrows(IllegalArgumentException.class, () -> YamlDocument.createAll(createStream("a: 1\n---\n- 1")).forEachRemaining(doc -> {}));
+        assertThrows(InvalidObjectException.class, () -> YamlDocument.create(createStream("a: 1\n---\nb: 2")));
+    }
+
     @Test
     void getDefaults() throws IOException {
         assertNull(YamlDocument.create(createStream("m: 2\nn: x")).getDefaults());
         Assertions.assertEquals(4, YamlDocument.create(createStream("m: 2\nn: x"), createStream("m: 4")).getDefaults().getInt("m"));
     }
 
+    @Test
+    void freeze() throws IOException {
+        // Create
+        YamlDocument defaults = YamlDocument.create(createStream("# c\nm: 4\ns:\n  n: 1"));
+        // Shared defaults must be frozen
+        assertThrows(IllegalArgumentException.class, () -> YamlDocument.create(createStream("m: 2"), defaults));
+        // Freeze
+        defaults.freeze();
+        // Assert
+        assertTrue(defaults.isFrozen());
+        assertTrue(defaults.getSection("s").isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> defaults.set("m", 5));
+        assertThrows(UnsupportedOperationException.class, () -> defaults.set("x.y", 5));
+        assertThrows(UnsupportedOperationException.class, () -> defaults.remove("m"));
+        assertThrows(UnsupportedOperationException.class, () -> defaults.getStoredValue().clear());
+        assertThrows(UnsupportedOperationException.class, () -> defaults.getBlock("m").addComment("x"));
+        assertThrows(UnsupportedOperationException.class, () -> defaults.reload(createStream("m: 1")));
+        assertThrows(UnsupportedOperationException.class, defaults::update);
+        // Share
+        YamlDocument first = YamlDocument.create(createStream("m: 2"), defaults), second = YamlDocument.create(createStream("a: 1"), defaults);
+        // Assert
+        assertSame(defaults, first.getDefaults());
+        assertSame(defaults, second.getDefaults());
+        assertEquals(1, second.getInt("s.n"));
+        assertThrows(IllegalArgumentException.class, () -> first.set("s", defaults.getSection("s")));
+        // Update
+        assertTrue(second.update());
+        second.getBlock("m").addComment(" d");
+        second.set("s.n", 2);
+        // Assert
+        assertEquals("# c\n# d\nm: 4\ns:\n  n: 2\n", second.dump());
+        assertEquals("# c\nm: 4\ns:\n  n: 1\n", defaults.dump());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void snapshot() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("# c\nm: 2\ns:\n  n: [1, 2]"), createStream("m: 4\nx: 5"));
+        file.set("s.f", 1.5f);
+        file.set("s.e", TimeUnit.SECONDS);
+        file.set("s.h", 'h');
+        file.setModified(false);
+        YamlDocument snapshot = file.snapshot();
+        String dump = file.dump();
+        // Modify
+        file.set("m", 3);
+        ((List<Object>) file.getList("s.n")).add(3);
+        file.reload(createStream("a: 1"));
+        // Assert
+        assertTrue(snapshot.isFrozen());
+        assertTrue(snapshot.getDefaults().isFrozen());
+        assertFalse(snapshot.isModified());
+        assertFalse(snapshot.getDefaults().isModified());
+        assertNull(snapshot.getFile());
+        assertEquals(2, snapshot.getInt("m"));
+        assertEquals(5, snapshot.getInt("x"));
+        assertEquals(Arrays.asList(1, 2), snapshot.getList("s.n"));
+        assertEquals(1.5f, snapshot.get("s.f"));
+        assertSame(TimeUnit.SECONDS, snapshot.get("s.e"));
+        assertEquals('h', snapshot.get("s.h"));
+        assertNotSame(file.getSection("s"), snapshot.getSection("s"));
+        assertSame(snapshot, snapshot.getSection("s").getRoot());
+        assertEquals(dump, snapshot.dump());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.set("m", 5));
+        assertNotSame(file.getDefaults(), snapshot.getDefaults());
+        // Frozen defaults are shared
+        YamlDocument defaults = YamlDocument.create(createStream("m: 4"));
+        defaults.freeze();
+        assertFalse(defaults.isModified());
+        assertSame(defaults, YamlDocument.create(createStream("m: 2"), defaults).snapshot().getDefaults());
+    }
+
+    @Test
+    void reloadReplacesContents() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a: 1\nb:\n  c: 2"));
+        Map<Object, ?> previous = file.getStoredValue();
+        // Reload
+        file.reload(createStream("d: 3"));
+        // Assert
+        assertNotSame(previous, file.getStoredValue());
+        assertEquals(new HashSet<>(Arrays.asList("a", "b")), previous.keySet());
+        assertEquals(Collections.singleton("d"), file.getKeys());
+        // Failed reload
+        assertThrows(Exception.class, () -> file.reload(createStream("e: [")));
+        // Assert
+        assertEquals(3, file.getInt("d"));
+        assertFalse(file.isModified());
+    }
+
+    @Test
+    void reloadUpdatesAside() throws IOException {
+        // Create
+        YamlDocument[] file = new YamlDocument[1];
+        List<Object> observed = new ArrayList<>();
+        UpdaterSettings updaterSettings = UpdaterSettings.builder().setVersioning(new BasicVersioning("v")).addCustomLogic("2", document -> {
+            if (file[0] != null) {
+                observed.add(file[0].get("b"));
+                observed.add(document.get("b"));
+            }
+        }).build();
+        file[0] = YamlDocument.create(createStream("v: 2\nb: 1"), createStream("v: 2\na: 1\nb: 0\ns:\n  x: 2"), LoaderSettings.builder().setAutoUpdate(true).build(), updaterSettings);
+        // Reload
+        file[0].reload(createStream("v: 1\nb: 2\ns:\n  y: 3"));
+        // Assert
+        assertEquals(Arrays.asList(1, 2), observed);
+        assertEquals(2, file[0].getInt("v"));
+        assertEquals(1, file[0].getInt("a"));
+        assertEquals(2, file[0].getInt("s.x"));
+        assertSame(file[0], file[0].getSection("s").getRoot());
+        assertSame(file[0], file[0].getSection("s").getParent());
+        assertSame(file[0].getDefaults().getSection("s"), file[0].getSection("s").getDefaults());
+        assertTrue(file[0].isModified());
+    }
+
+    @Test
+    void threadSafe() throws Exception {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a: 1"), GeneralSettings.builder().setThreadSafe(true).setRouteIndex(true).build(), LoaderSettings.builder().setLazySections(true).build());
+        Thread[] threads = new Thread[8];
+        for (int i = 0; i < threads.length; i++) {
+            int worker = i;
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 500; j++) {
+                    file.set("stats.shared." + worker + "-" + j, j);
+                    file.set(Route.from("workers", worker, j), j);
+                }
+            });
+        }
+        // Run
+        for (Thread thread : threads)
+            thread.start();
+        for (Thread thread : threads)
+            thread.join();
+        // Assert
+        assertTrue(file.getStoredValue() instanceof ConcurrentLinkedMap);
+        assertTrue(file.getSection("workers").getStoredValue() instanceof ConcurrentLinkedMap);
+        assertFalse(file.getGeneralSettings().getDefaultMap() instanceof ConcurrentLinkedMap);
+        assertEquals(threads.length * 500, file.getSection("stats.shared").getKeys().size());
+        assertEquals(threads.length, file.getSection("workers").getKeys().size());
+        for (int i = 0; i < threads.length; i++)
+            assertEquals(500, file.getSection(Route.from("workers", i)).getKeys().size());
+        assertEquals(Arrays.asList("a", "stats", "workers"), new ArrayList<>(file.getKeys()));
+    }
+
+    @Test
+    void routeIndex() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a:\n  b:\n    c: 1\n  d: 2\ne: 3"), GeneralSettings.builder().setRouteIndex(true).build());
+        // Assert
+        assertEquals(1, file.getInt("a.b.c"));
+        assertSame(file.getSection("a"), file.getSection("a.b").getParent());
+        // Set
+        file.set("a.b.f", 4);
+        file.set("x.y", 5);
+        file.set("a.d", Collections.singletonMap("g", 6));
+        // Assert
+        assertEquals(4, file.getInt("a.b.f"));
+        assertEquals(5, file.getInt("x.y"));
+        assertEquals(6, file.getInt("a.d.g"));
+        // Move
+        file.move("a.b", "m");
+        // Assert
+        assertFalse(file.contains("a.b"));
+        assertFalse(file.contains("a.b.c"));
+        assertEquals(1, file.getInt("m.c"));
+        // Remove
+        file.remove("m");
+        file.getSection("a").clear();
+        // Assert
+        assertFalse(file.contains("m.c"));
+        assertFalse(file.contains("a.d.g"));
+        assertTrue(file.contains("a"));
+        // Reload
+        file.reload(createStream("a:\n  b: 1"));
+        // Assert
+        assertFalse(file.contains("x.y"));
+        assertEquals(1, file.getInt("a.b"));
+        // Index of the replaced contents
+        Map<String, Block<?>> index = file.getRouteIndex(true);
+        YamlDocument replacement = YamlDocument.create(createStream("a:\n  b: 2"));
+        file.setValue(replacement.getStoredValue());
+        // Assert
+        assertNull(file.getRouteIndex(false));
+        assertNotSame(index, file.getRouteIndex(true));
+        assertEquals(2, file.getInt("a.b"));
+        // Update
+        YamlDocument updated = YamlDocument.create(createStream("s:\n  t: 1"), createStream("s:\n  t: 2\n  u: 3\nv: 4"), GeneralSettings.builder().setRouteIndex(true).build());
+        // Assert
+        assertEquals(1, updated.getInt("s.t"));
+        assertEquals(3, updated.getInt("s.u"));
+        assertEquals(4, updated.getInt("v"));
+    }
+
     @Test
     void update() throws IOException{
         // Assert
@@ -115,11 +471,172 @@ class YamlDocumentTest {
         assertEquals("x: y\nb: 5\n", stream.toString());
     }
 
+    @Test
+    void saveFile(@TempDir Path directory) throws IOException {
+        // File
+        File target = directory.resolve("file.yml").toFile();
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("x: y\nb: 5"));
+        // Save
+        file.save(target);
+        // Assert
+        assertEquals("x: y\nb: 5\n", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+
+        // Atomic
+        file.setSettings(DumperSettings.builder().setAtomicSave(true).setSync(true).setBufferSize(16).build());
+        file.set("b", 6);
+        // Save
+        file.save(target);
+        // Assert
+        assertEquals("x: y\nb: 6\n", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+        assertArrayEquals(new String[]{"file.yml"}, directory.toFile().list());
+    }
+
+    @Test
+    void saveAtomicPermissions(@TempDir Path directory) throws IOException {
+        // Assert
+        assumeTrue(directory.getFileSystem().supportedFileAttributeViews().contains("posix"));
+        // Files
+        Path reference = Files.createFile(directory.resolve("reference.yml")), target = directory.resolve("file.yml");
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("x: y"), DumperSettings.builder().setAtomicSave(true).build());
+        // Save
+        file.save(target.toFile());
+        // Assert
+        assertEquals(Files.getPosixFilePermissions(reference), Files.getPosixFilePermissions(target));
+        // Existing
+        Files.setPosixFilePermissions(target, PosixFilePermissions.fromString("rw-r-----"));
+        file.save(target.toFile());
+        // Assert
+        assertEquals(PosixFilePermissions.fromString("rw-r-----"), Files.getPosixFilePermissions(target));
+    }
+
+    @Test
+    void saveAtomicSymbolicLink(@TempDir Path directory) throws IOException {
+        // Files
+        Path real = Files.createDirectory(directory.resolve("real")).resolve("file.yml"), link = directory.resolve("link.yml");
+        Files.write(real, "x: y".getBytes(StandardCharsets.UTF_8));
+        try {
+            Files.createSymbolicLink(link, real);
+        } catch (UnsupportedOperationException | IOException ex) {
+            assumeTrue(false, "Symbolic links are not supported");
+        }
+        // Create
+        YamlDocument file = YamlDocument.create(link.toFile(), DumperSettings.builder().setAtomicSave(true).build());
+        file.set("x", "z");
+        // Save
+        file.save();
+        // Assert
+        assertTrue(Files.isSymbolicLink(link));
+        assertEquals("x: z\n", new String(Files.readAllBytes(real), StandardCharsets.UTF_8));
+        assertArrayEquals(new String[]{"file.yml"}, real.getParent().toFile().list());
+    }
+
+    @Test
+    void saveIncremental(@TempDir Path directory) throws IOException {
+        // File
+        File target = directory.resolve("file.yml").toFile();
+        Files.write(target.toPath(), "x: y\nb: 5".getBytes(StandardCharsets.UTF_8));
+        // Create
+        YamlDocument file = YamlDocument.create(target, DumperSettings.builder().setIncrementalSave(true).build());
+        // Assert
+        assertFalse(file.isModified());
+        // Save (unmodified)
+        assertTrue(file.save());
+        assertEquals("x: y\nb: 5", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+
+        // Comment
+        file.getBlock("b").addComment(" c");
+        assertTrue(file.isModified());
+        // Save
+        file.save();
+        assertFalse(file.isModified());
+        assertEquals("x: y\n# c\nb: 5\n", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+
+        // Modify, save and assert
+        file.set("s.t", 1);
+        assertTrue(file.getSection("s").isModified());
+        file.save();
+        assertFalse(file.isModified());
+        assertEquals("x: y\n# c\nb: 5\ns:\n  t: 1\n", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+        // Remove
+        file.remove("s.t");
+        assertTrue(file.isModified());
+        file.save();
+        // Move
+        file.move("b", "c");
+        assertTrue(file.isModified());
+        file.save();
+        assertEquals("x: y\ns: {}\n# c\nc: 5\n", new String(Files.readAllBytes(target.toPath()), StandardCharsets.UTF_8));
+
+        // Deleted file is saved again
+        assertTrue(target.delete());
+        file.save();
+        assertTrue(target.exists());
+    }
+
+    @Test
+    void saveWriter() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("x: y\nb: 5"));
+        // Stream
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        // Save
+        file.save(new OutputStreamWriter(stream, StandardCharsets.UTF_8));
+        // Assert
+        assertEquals("x: y\nb: 5\n", new String(stream.toByteArray(), StandardCharsets.UTF_8));
+    }
+
     @Test
     void dump() throws IOException {
         assertEquals("x: y\nb: 5\n", YamlDocument.create(createStream("x: y\nb: 5")).dump());
     }
 
+    @Test
+    void dumpWriter() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("# c\nx: y\nb: 5"));
+        // Writer
+        StringWriter writer = new StringWriter();
+        // Dump
+        file.dump(writer);
+        // Assert
+        assertEquals(file.dump(), writer.toString());
+        // Failing writer
+        assertThrows(IOException.class, () -> file.dump(new Writer() {
+            @Override
+            public void write(char[] buffer, int off, int len) throws IOException {
+                throw new IOException();
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        }));
+    }
+
+    @Test
+    void dumpRepeatedly() throws IOException {
+        // Create
+        YamlDocument file = YamlDocument.create(createStream("a: &x [1, 2]\nb: *x"));
+        // Assert
+        String dump = file.dump();
+        assertEquals(dump, file.dump());
+        assertEquals(dump, file.dump(DumperSettings.DEFAULT));
+        // Change settings
+        file.setSettings(DumperSettings.builder().setIndentation(4).setFlowStyle(FlowStyle.FLOW).build());
+        assertEquals("{a: &id001 [1, 2], b: *id001}\n", file.dump());
+        assertEquals(file.dump(), file.dump());
+        // Reload
+        file.reload(createStream("x: 1"));
+        file.reload(createStream("x: 2"));
+        assertEquals(2, file.getInt("x"));
+    }
+
     @Test
     void setSettings() throws IOException {
         // Create
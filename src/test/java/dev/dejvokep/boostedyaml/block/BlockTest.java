@@ -16,6 +16,7 @@
 package dev.dejvokep.boostedyaml.block;
 
 import dev.dejvokep.boostedyaml.block.implementation.TerminatedBlock;
+import dev.dejvokep.boostedyaml.utils.format.NodeRole;
 import org.junit.jupiter.api.Test;
 import org.snakeyaml.engine.v2.comments.CommentLine;
 import org.snakeyaml.engine.v2.comments.CommentType;
@@ -52,8 +53,8 @@ class BlockTest {
         // Init
         block.init(keyNode, valueNode);
         // Assert
-        assertEquals(keyComments, block.beforeKeyComments);
-        assertEquals(valueComments, block.afterValueComments);
+        assertEquals(keyComments, block.getCommentLines(NodeRole.KEY, Comments.Position.BEFORE));
+        assertEquals(valueComments, block.getCommentLines(NodeRole.VALUE, Comments.Position.AFTER));
     }
 
     @Test
@@ -71,7 +72,7 @@ class BlockTest {
         // Init
         block.init(node, null);
         // Assert
-        assertEquals(comments, block.beforeKeyComments);
+        assertEquals(comments, block.getCommentLines(NodeRole.KEY, Comments.Position.BEFORE));
     }
 
     @Test
@@ -89,9 +90,9 @@ class BlockTest {
         // Init
         block.init(node, null);
         // Assert
-        assertEquals(1, block.inlineKeyComments.size());
-        assertEquals(CommentType.IN_LINE, block.inlineKeyComments.get(0).getCommentType());
-        assertEquals("abc2", block.inlineKeyComments.get(0).getValue());
+        assertEquals(1, block.getCommentLines(NodeRole.KEY, Comments.Position.INLINE).size());
+        assertEquals(CommentType.IN_LINE, block.getCommentLines(NodeRole.KEY, Comments.Position.INLINE).get(0).getCommentType());
+        assertEquals("abc2", block.getCommentLines(NodeRole.KEY, Comments.Position.INLINE).get(0).getValue());
     }
 
     @Test
@@ -109,7 +110,7 @@ class BlockTest {
         // Init
         block.init(node, null);
         // Assert
-        assertEquals(comments, block.afterKeyComments);
+        assertEquals(comments, block.getCommentLines(NodeRole.KEY, Comments.Position.AFTER));
     }
 
     @Test
@@ -127,7 +128,7 @@ class BlockTest {
         // Init
         block.init(null, node);
         // Assert
-        assertEquals(comments, block.beforeValueComments);
+        assertEquals(comments, block.getCommentLines(NodeRole.VALUE, Comments.Position.BEFORE));
     }
 
     @Test
@@ -145,9 +146,9 @@ class BlockTest {
         // Init
         block.init(null, node);
         // Assert
-        assertEquals(1, block.inlineValueComments.size());
-        assertEquals(CommentType.IN_LINE, block.inlineValueComments.get(0).getCommentType());
-        assertEquals("def2", block.inlineValueComments.get(0).getValue());
+        assertEquals(1, block.getCommentLines(NodeRole.VALUE, Comments.Position.INLINE).size());
+        assertEquals(CommentType.IN_LINE, block.getCommentLines(NodeRole.VALUE, Comments.Position.INLINE).get(0).getCommentType());
+        assertEquals("def2", block.getCommentLines(NodeRole.VALUE, Comments.Position.INLINE).get(0).getValue());
     }
 
     @Test
@@ -165,7 +166,7 @@ class BlockTest {
         // Init
         block.init(null, node);
         // Assert
-        assertEquals(comments, block.afterValueComments);
+        assertEquals(comments, block.getCommentLines(NodeRole.VALUE, Comments.Position.AFTER));
     }
 
     @Test
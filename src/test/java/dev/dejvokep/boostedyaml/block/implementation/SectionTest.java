@@ -22,11 +22,17 @@ import dev.dejvokep.boostedyaml.settings.dumper.DumperSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.utils.collection.PackedDoubleList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedIntList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedList;
+import dev.dejvokep.boostedyaml.utils.collection.PackedLongList;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -374,6 +380,117 @@ class SectionTest {
         assertNull(file.get("z", null));
     }
 
+    @Test
+    void getTyped() throws IOException {
+        // Create file
+        YamlDocument file = YamlDocument.create(new ByteArrayInputStream("a:\n  b:\n    c: 1000\n    d: 2.5\n    e: abc\n  '': {f: true}".getBytes(StandardCharsets.UTF_8)), GeneralSettings.builder().setRouteSeparator('/').build());
+        // Assert
+        assertSame(file.get("a/b/c"), file.getInt("a/b/c"));
+        assertEquals(1000L, file.getLong("a/b/c"));
+        assertEquals(2, file.getInt("a/b/d"));
+        assertEquals(2.5, file.getDouble("a/b/d"));
+        assertEquals("1000", file.getString("a/b/c"));
+        assertEquals(GeneralSettings.DEFAULT_NUMBER.intValue(), file.getInt("a/b/e"));
+        assertEquals(7, file.getInt("a/b/x", 7));
+        assertNull(file.getInt("a/b/e", null));
+        assertNull(file.getString("a/x/c", null));
+        assertTrue(file.getBoolean("a//f"));
+        assertSame(file.getSection("a/b"), file.getParent("a/b/c").orElse(null));
+    }
+
+    @Test
+    void getArray() throws IOException {
+        // Content
+        byte[] content = "a: [1, 2, 3]\nb: [5000000000, 6000000000]\nc: [1.5, 2.5]\nd: [1, abc]\ne: &x [4, 5]\nf: *x".getBytes(StandardCharsets.UTF_8);
+        // Create files
+        YamlDocument file = YamlDocument.create(new ByteArrayInputStream(content), LoaderSettings.builder().setPackNumericLists(true).build());
+        YamlDocument plain = YamlDocument.create(new ByteArrayInputStream(content));
+        // Assert
+        assertTrue(file.getList("a") instanceof PackedIntList);
+        assertTrue(file.getList("b") instanceof PackedLongList);
+        assertTrue(file.getList("c") instanceof PackedDoubleList);
+        assertFalse(file.getList("d") instanceof PackedList);
+        assertFalse(file.getList("e") instanceof PackedList);
+        assertFalse(plain.getList("a") instanceof PackedList);
+        assertEquals(plain.getList("a"), file.getList("a"));
+        assertEquals(plain.getIntList("a"), file.getIntList("a"));
+        assertEquals(plain.dump(), file.dump());
+        assertArrayEquals(new int[]{1, 2, 3}, file.getIntArray("a"));
+        assertArrayEquals(new int[]{1, 2, 3}, plain.getIntArray(Route.from("a")));
+        assertArrayEquals(new long[]{5000000000L, 6000000000L}, file.getLongArray("b"));
+        assertArrayEquals(new double[]{1.5, 2.5}, file.getDoubleArray(Route.from("c")));
+        assertArrayEquals(new int[]{1}, file.getIntArray("d"));
+        assertNull(file.getIntArray("x"));
+        // Copied
+        file.getIntArray("a")[0] = 7;
+        file.getLongArray("b")[0] = 7;
+        file.getDoubleArray("c")[0] = 7;
+        assertEquals(1, file.getList("a").get(0));
+        assertEquals(5000000000L, file.getList("b").get(0));
+        assertEquals(1.5, file.getList("c").get(0));
+        assertNotSame(file.getList("a"), file.getIntList("a"));
+        // Converted lists are not packed
+        assertEquals(Arrays.asList(1, 2, 3), file.getIntList("a"));
+        assertEquals(Arrays.asList(5000000000L, 6000000000L), file.getLongList("b"));
+        assertEquals(Arrays.asList(1.5, 2.5), file.getDoubleList("c"));
+        assertFalse(file.getIntList("a") instanceof PackedList);
+        assertFalse(file.getLongList("b") instanceof PackedList);
+        assertFalse(file.getDoubleList("c") instanceof PackedList);
+        assertTrue(file.getIntList("a").add(null));
+    }
+
+    @Test
+    void getConvertedList() throws IOException {
+        // Content
+        byte[] content = "a: [1, 2, abc]\nb:\n  c: [x, 5]\n  d: [{e: 1}, f]".getBytes(StandardCharsets.UTF_8);
+        // Create files
+        YamlDocument file = YamlDocument.create(new ByteArrayInputStream(content), GeneralSettings.builder().setCacheListConversions(true).build());
+        YamlDocument plain = YamlDocument.create(new ByteArrayInputStream(content));
+        // Assert
+        assertEquals(Arrays.asList(1, 2), file.getIntList("a"));
+        assertSame(file.getIntList("a"), file.getIntList(Route.from("a")));
+        assertSame(file.getStringList("b.c"), file.getStringList("b.c", null));
+        assertSame(file.getMapList("b.d"), file.getOptionalMapList("b.d").orElse(null));
+        assertEquals(plain.getStringList("a"), file.getStringList("a"));
+        assertEquals(plain.getMapList("b.d"), file.getMapList("b.d"));
+        assertNotSame(plain.getIntList("a"), plain.getIntList("a"));
+        assertThrows(UnsupportedOperationException.class, () -> file.getIntList("a").add(3));
+        // Set
+        List<Integer> list = file.getIntList("a");
+        file.set("a", Arrays.asList(3, 4));
+        ((TerminatedBlock) file.getBlock("b.c")).setValue(Arrays.asList("y", 6));
+        // Assert
+        assertNotSame(list, file.getIntList("a"));
+        assertEquals(Arrays.asList(3, 4), file.getIntList("a"));
+        assertEquals(Arrays.asList("y", "6"), file.getStringList("b.c"));
+        assertEquals(Collections.singletonList(6), file.getIntList("b.c"));
+    }
+
+    @Test
+    void getPrimitive() throws IOException {
+        // Create file
+        YamlDocument file = YamlDocument.create(new ByteArrayInputStream("a:\n  b:\n    c: 1000\n    d: 2.5\n    e: abc\n    f: true\n    g: 5".getBytes(StandardCharsets.UTF_8)), GeneralSettings.builder().setRouteSeparator('/').build());
+        // Assert
+        assertEquals(1000, file.getInt("a/b/c", 0));
+        assertEquals(1000L, file.getLong(Route.from("a", "b", "c"), 0));
+        assertEquals(1000D, file.getDouble("a/b/c", 0));
+        assertEquals(2, file.getInt(Route.from("a", "b", "d"), 0));
+        assertEquals(2.5, file.getDouble("a/b/d", 0));
+        assertEquals(5, file.getInt("a/b/g", 0));
+        assertEquals(7, file.getInt("a/b/e", 7));
+        assertEquals(7L, file.getLong("a/b/x", 7));
+        assertTrue(file.getBoolean("a/b/f", false));
+        assertTrue(file.getBoolean(Route.from("a", "b", "x"), true));
+        // Set
+        file.set("a/b/c", 5000000000L);
+        ((TerminatedBlock) file.getBlock("a/b/d")).setValue("abc");
+        // Assert
+        assertEquals(5000000000L, file.getLong("a/b/c", 0));
+        assertEquals(5000000000L, file.get("a/b/c"));
+        assertEquals("abc", file.get("a/b/d"));
+        assertEquals(-1D, file.getDouble("a/b/d", -1));
+    }
+
     @Test
     void getAsSafe() throws IOException {
         // Create file
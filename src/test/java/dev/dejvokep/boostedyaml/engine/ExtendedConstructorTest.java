@@ -20,15 +20,14 @@ import dev.dejvokep.boostedyaml.serialization.standard.TypeAdapter;
 import org.jetbrains.annotations.NotNull;
 import org.junit.jupiter.api.Test;
 import org.snakeyaml.engine.v2.api.LoadSettings;
+import org.snakeyaml.engine.v2.common.Anchor;
 import org.snakeyaml.engine.v2.common.FlowStyle;
 import org.snakeyaml.engine.v2.common.ScalarStyle;
 import org.snakeyaml.engine.v2.nodes.*;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.*;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class ExtendedConstructorTest {
 
@@ -54,6 +53,34 @@ class ExtendedConstructorTest {
         assertEquals(123, constructor.getConstructed(node));
     }
 
+    @Test
+    void release() {
+        // Create
+        ExtendedConstructor constructor = new ExtendedConstructor(LoadSettings.builder().build(), new StandardSerializer("!="), true);
+        Node element = new ScalarNode(Tag.INT, "123", ScalarStyle.PLAIN);
+        SequenceNode node = new SequenceNode(Tag.SEQ, Collections.singletonList(element), FlowStyle.BLOCK);
+        // Construct on demand
+        assertEquals(Collections.singletonList(123), constructor.getConstructed(node));
+        Object constructed = constructor.getConstructed(node);
+        // Release
+        assertTrue(constructor.enter(node));
+        constructor.release(node);
+        constructor.exit(node);
+        // Assert (constructed again)
+        assertNotSame(constructed, constructor.getConstructed(node));
+
+        // Anchored
+        node.setAnchor(Optional.of(new Anchor("a")));
+        constructed = constructor.getConstructed(node);
+        assertFalse(constructor.enter(node));
+        constructor.release(node);
+        constructor.exit(node);
+        // Assert (retained)
+        assertSame(constructed, constructor.getConstructed(node));
+        // Disabled
+        assertFalse(buildConstructor().enter(element));
+    }
+
     private ExtendedConstructor buildConstructor() {
         StandardSerializer serializer = new StandardSerializer("!=");
         TypeAdapter<CustomType> adapter = new TypeAdapter<CustomType>() {
@@ -26,6 +26,13 @@ class RouteFactoryTest {
     @Test
     void create() {
         assertEquals(Route.from("a", "b"), new RouteFactory('.').create("a.b"));
+        assertEquals(Route.from("", "a", "", "b"), new RouteFactory('/').create("/a//b//"));
+        assertThrows(IllegalArgumentException.class, () -> new RouteFactory('/').create("//"));
+        // Create factory
+        RouteFactory factory = new RouteFactory('/');
+        // Assert
+        assertSame(factory.create("a/b"), factory.create("a/b"));
+        assertEquals(Route.from("a", "b", 1), factory.create("a/b").add(1));
     }
 
     @Test
@@ -46,6 +46,9 @@ class MultiKeyRouteTest {
         assertEquals(Route.from("a", "c"), route);
         assertEquals(2, route.length());
         assertEquals(MultiKeyRoute.class, route.getClass());
+        assertEquals(Route.from("a", "c").hashCode(), route.hashCode());
+        assertEquals(Route.from("a", "c", 1).hashCode(), route.add(1).hashCode());
+        assertSame(route, route.add(1).parent());
     }
 
     @Test
@@ -55,5 +58,7 @@ class MultiKeyRouteTest {
         // Assert
         assertEquals(Route.from("a"), route.parent());
         assertEquals(SingleKeyRoute.class, route.parent().getClass());
+        assertSame(route.parent(), route.parent());
+        assertEquals(Route.from("a").hashCode(), new MultiKeyRoute("a").hashCode());
     }
 }
\ No newline at end of file
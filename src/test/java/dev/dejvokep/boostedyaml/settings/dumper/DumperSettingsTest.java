@@ -104,4 +104,28 @@ class DumperSettingsTest {
         }};
         assertEquals(tagDirectives, DumperSettings.builder().setTagDirectives(tagDirectives).build().buildEngineSettings().getTagDirective());
     }
-}
\ No newline at end of file
+
+    @Test
+    void fileSaving() {
+        // Defaults
+        assertFalse(DumperSettings.DEFAULT.isAtomicSave());
+        assertFalse(DumperSettings.DEFAULT.isSync());
+        assertFalse(DumperSettings.DEFAULT.isIncrementalSave());
+        assertEquals(DumperSettings.Builder.DEFAULT_BUFFER_SIZE, DumperSettings.DEFAULT.getBufferSize());
+        // Create
+        DumperSettings settings = DumperSettings.builder().setAtomicSave(true).setSync(true).setIncrementalSave(true).setBufferSize(65536).build();
+        // Assert
+        assertTrue(settings.isAtomicSave());
+        assertTrue(settings.isSync());
+        assertTrue(settings.isIncrementalSave());
+        assertEquals(65536, settings.getBufferSize());
+        // Copy
+        DumperSettings copy = DumperSettings.builder(settings).build();
+        assertTrue(copy.isAtomicSave());
+        assertTrue(copy.isSync());
+        assertTrue(copy.isIncrementalSave());
+        assertEquals(65536, copy.getBufferSize());
+        // Invalid
+        assertThrows(IllegalArgumentException.class, () -> DumperSettings.builder().setBufferSize(0));
+    }
+}
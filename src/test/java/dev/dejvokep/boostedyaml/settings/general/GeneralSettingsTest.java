@@ -17,6 +17,7 @@ package dev.dejvokep.boostedyaml.settings.general;
 
 import dev.dejvokep.boostedyaml.serialization.standard.StandardSerializer;
 import dev.dejvokep.boostedyaml.serialization.YamlSerializer;
+import dev.dejvokep.boostedyaml.utils.collection.ConcurrentLinkedMap;
 import dev.dejvokep.boostedyaml.utils.supplier.ListSupplier;
 import dev.dejvokep.boostedyaml.utils.supplier.MapSupplier;
 import org.jetbrains.annotations.NotNull;
@@ -56,6 +57,29 @@ class GeneralSettingsTest {
         assertFalse(GeneralSettings.builder().setUseDefaults(false).build().isUseDefaults());
     }
 
+    @Test
+    void isRouteIndex() {
+        assertTrue(GeneralSettings.builder().setRouteIndex(true).build().isRouteIndex());
+        assertFalse(GeneralSettings.builder().setRouteIndex(false).build().isRouteIndex());
+    }
+
+    @Test
+    void isCacheListConversions() {
+        assertTrue(GeneralSettings.builder().setCacheListConversions(true).build().isCacheListConversions());
+        assertFalse(GeneralSettings.builder().setCacheListConversions(false).build().isCacheListConversions());
+    }
+
+    @Test
+    void isThreadSafe() {
+        assertTrue(GeneralSettings.builder().setThreadSafe(true).build().isThreadSafe());
+        assertFalse(GeneralSettings.builder().setThreadSafe(false).build().isThreadSafe());
+        // Create
+        GeneralSettings settings = GeneralSettings.builder().setThreadSafe(true).setDefaultMap(HashMap::new).build();
+        // Assert
+        assertTrue(settings.getDefaultMap() instanceof HashMap);
+        assertTrue(GeneralSettings.builder(settings).setThreadSafe(false).build().getDefaultMap() instanceof HashMap);
+    }
+
     @Test
     void getDefaultObject() {
         Object o = new Object();
@@ -39,10 +39,40 @@ class LoaderSettingsTest {
         assertFalse(LoaderSettings.builder().setCreateFileIfAbsent(false).build().isCreateFileIfAbsent());
     }
 
+    @Test
+    void isMemoryMapping() {
+        assertTrue(LoaderSettings.builder().setMemoryMapping(true).build().isMemoryMapping());
+        assertFalse(LoaderSettings.builder().setMemoryMapping(false).build().isMemoryMapping());
+        assertTrue(LoaderSettings.builder(LoaderSettings.builder().setMemoryMapping(true).build()).build().isMemoryMapping());
+    }
+
+    @Test
+    void getReadBufferSize() {
+        assertEquals(LoaderSettings.Builder.DEFAULT_READ_BUFFER_SIZE, LoaderSettings.DEFAULT.getReadBufferSize());
+        assertEquals(65536, LoaderSettings.builder().setReadBufferSize(65536).build().getReadBufferSize());
+        assertEquals(65536, LoaderSettings.builder(LoaderSettings.builder().setReadBufferSize(65536).build()).build().getReadBufferSize());
+        assertThrows(IllegalArgumentException.class, () -> LoaderSettings.builder().setReadBufferSize(0));
+    }
+
+    @Test
+    void isLazySections() {
+        assertTrue(LoaderSettings.builder().setLazySections(true).build().isLazySections());
+        assertFalse(LoaderSettings.builder().setLazySections(false).build().isLazySections());
+        assertTrue(LoaderSettings.builder(LoaderSettings.builder().setLazySections(true).build()).build().isLazySections());
+    }
+
+    @Test
+    void isPackNumericLists() {
+        assertTrue(LoaderSettings.builder().setPackNumericLists(true).build().isPackNumericLists());
+        assertFalse(LoaderSettings.builder().setPackNumericLists(false).build().isPackNumericLists());
+        assertTrue(LoaderSettings.builder(LoaderSettings.builder().setPackNumericLists(true).build()).build().isPackNumericLists());
+    }
+
     @Test
     void buildEngineSettings() {
         assertTrue(LoaderSettings.builder().setDetailedErrors(true).build().buildEngineSettings(GeneralSettings.DEFAULT).getUseMarks());
         assertFalse(LoaderSettings.builder().setDetailedErrors(false).build().buildEngineSettings(GeneralSettings.DEFAULT).getUseMarks());
+        assertEquals(1000, LoaderSettings.builder().setCodePointLimit(1000).build().buildEngineSettings(GeneralSettings.DEFAULT).getCodePointLimit());
         assertTrue(LoaderSettings.builder().build().buildEngineSettings(GeneralSettings.builder().setDefaultList(new ListSupplier() {
             @NotNull
             @Override
@@ -182,6 +182,32 @@ class UpdaterSettingsTest {
         }}, settings.getMappers("1.5", '.'));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void getConvertedRoutes() {
+        // Build
+        UpdaterSettings settings = UpdaterSettings.builder()
+                .setIgnoredStringRoutes("1.2", new HashSet<String>() {{
+                    add("a.b");
+                }})
+                .setStringRelocations("1.2", new HashMap<String, String>() {{
+                    put("a.b", "c.d");
+                }})
+                .addMapper("1.2", "a.b", ValueMapper.value(object -> object), '.').build();
+        // Assert
+        assertSame(settings.getIgnoredRoutes("1.2", '.'), settings.getIgnoredRoutes("1.2", '.'));
+        assertSame(settings.getRelocations("1.2", '.'), settings.getRelocations("1.2", '.'));
+        assertSame(settings.getMappers("1.2", '.'), settings.getMappers("1.2", '.'));
+        assertEquals(Collections.singleton(Route.from("a", "b")), settings.getIgnoredRoutes("1.2", '.'));
+        assertEquals(Collections.singleton(Route.from("a.b")), settings.getIgnoredRoutes("1.2", '/'));
+        assertEquals(Collections.singletonMap(Route.from("a", "b"), Route.from("c", "d")), settings.getRelocations("1.2", '.'));
+        assertEquals(Collections.singletonMap(Route.from("a.b"), Route.from("c.d")), settings.getRelocations("1.2", '/'));
+        assertThrows(UnsupportedOperationException.class, () -> settings.getIgnoredRoutes("1.2", '.').clear());
+        assertThrows(UnsupportedOperationException.class, () -> settings.getRelocations("1.2", '.').clear());
+        assertThrows(UnsupportedOperationException.class, () -> settings.getMappers("1.2", '.').clear());
+        assertTrue(settings.getRelocations("1.3", '.').isEmpty());
+    }
+
     @Test
     void getCustomLogic() {
         // Build
@@ -254,4 +280,64 @@ class UpdaterSettingsTest {
         assertEquals(UpdaterSettings.OptionSorting.NONE, UpdaterSettings.builder().setOptionSorting(UpdaterSettings.OptionSorting.NONE).build().getOptionSorting());
         assertEquals(UpdaterSettings.OptionSorting.SORT_BY_DEFAULTS, UpdaterSettings.builder().setOptionSorting(UpdaterSettings.OptionSorting.SORT_BY_DEFAULTS).build().getOptionSorting());
     }
+
+    @Test
+    void getValueCopier() {
+        ValueCopier copier = value -> value;
+        assertNull(UpdaterSettings.DEFAULT.getValueCopier());
+        assertEquals(copier, UpdaterSettings.builder().setValueCopier(copier).build().getValueCopier());
+        assertEquals(copier, UpdaterSettings.builder(UpdaterSettings.builder().setValueCopier(copier).build()).build().getValueCopier());
+    }
+
+    @Test
+    void isParallelMerge() {
+        assertFalse(UpdaterSettings.DEFAULT.isParallelMerge());
+        assertTrue(UpdaterSettings.builder().setParallelMerge(true).build().isParallelMerge());
+        assertEquals(100, UpdaterSettings.builder().setParallelMergeThreshold(100).build().getParallelMergeThreshold());
+    }
+
+    @Test
+    void getMigrationPlan() {
+        // Pattern
+        Pattern pattern = new Pattern(Segment.range(1, Integer.MAX_VALUE), Segment.literal("."), Segment.range(0, 10));
+        // Settings
+        UpdaterSettings settings = UpdaterSettings.builder()
+                .addRelocation("2.1", "a", "b", '.')
+                .addRelocation("1.0x", "a", "b", '.')
+                .addMappers("1.5", Collections.emptyMap())
+                .addCustomLogic("1.2", document -> {})
+                .addCustomLogic("x", document -> {}).build();
+        // Plan
+        List<Version> plan = settings.getMigrationPlan(pattern);
+        // Assert
+        assertEquals(Arrays.asList("1.2", "1.5", "2.1"), Arrays.asList(plan.get(0).asID(), plan.get(1).asID(), plan.get(2).asID()));
+        assertEquals(3, plan.size());
+        assertSame(plan, settings.getMigrationPlan(pattern));
+    }
+
+    @Test
+    void builderChangesAfterBuild() {
+        // Pattern
+        Pattern pattern = new Pattern(Segment.range(1, Integer.MAX_VALUE), Segment.literal("."), Segment.range(0, 10));
+        // Builder
+        UpdaterSettings.Builder builder = UpdaterSettings.builder()
+                .addRelocation("1.2", "a", "b", '.')
+                .addIgnoredRoute("1.2", "c", '.')
+                .addCustomLogic("1.2", document -> {});
+        // Settings
+        UpdaterSettings settings = builder.build();
+        // Change the builder
+        builder.addRelocation("1.2", "c", "d", '.')
+                .addRelocation("1.3", "a", "b", '.')
+                .addCustomLogic("1.2", document -> {})
+                .setMergeRule(MergeRule.MAPPINGS, false);
+        // Assert
+        assertEquals(1, settings.getMigrationPlan(pattern).size());
+        assertEquals(Collections.singletonMap(Route.from("a"), Route.from("b")), settings.getRelocations("1.2", '.'));
+        assertEquals(1, settings.getCustomLogic("1.2").size());
+        assertTrue(settings.getMergeRules().get(MergeRule.MAPPINGS));
+        // Builder from the settings
+        UpdaterSettings.builder(settings).addIgnoredRoute("1.2", "d", '.').build();
+        assertEquals(Collections.singleton(Route.from("c")), settings.getIgnoredRoutes("1.2", '.'));
+    }
 }
\ No newline at end of file
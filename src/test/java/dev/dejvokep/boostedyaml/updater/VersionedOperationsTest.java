@@ -72,4 +72,23 @@ class VersionedOperationsTest {
         }
     }
 
-}
\ No newline at end of file
+    @Test
+    void runMigrationPlan() {
+        try {
+            // Distant versions
+            YamlDocument document = YamlDocument.create(new ByteArrayInputStream("v: 1\na: 1".getBytes(StandardCharsets.UTF_8)));
+            assertFalse(VersionedOperations.run(document, YamlDocument.create(new ByteArrayInputStream("v: 10000000".getBytes(StandardCharsets.UTF_8))),
+                    UpdaterSettings.builder().setVersioning(new BasicVersioning("v")).addRelocations(new HashMap<String, Map<Route, Route>>(){{
+                        put("5000000", Collections.singletonMap(Route.from("a"), Route.from("b")));
+                        put("10000000", Collections.singletonMap(Route.from("b"), Route.from("c")));
+                        put("10000001", Collections.singletonMap(Route.from("c"), Route.from("d")));
+                        put("05000000", Collections.singletonMap(Route.from("c"), Route.from("e")));
+                    }}).build(), '.'));
+            assertEquals(1, document.get("c"));
+            assertEquals(2, document.getKeys().size());
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+}
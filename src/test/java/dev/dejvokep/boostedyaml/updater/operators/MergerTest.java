@@ -16,18 +16,23 @@
 package dev.dejvokep.boostedyaml.updater.operators;
 
 import dev.dejvokep.boostedyaml.YamlDocument;
+import dev.dejvokep.boostedyaml.block.Comments;
+import dev.dejvokep.boostedyaml.route.Route;
 import dev.dejvokep.boostedyaml.settings.dumper.DumperSettings;
 import dev.dejvokep.boostedyaml.settings.general.GeneralSettings;
 import dev.dejvokep.boostedyaml.settings.loader.LoaderSettings;
+import dev.dejvokep.boostedyaml.settings.updater.MergeRule;
 import dev.dejvokep.boostedyaml.settings.updater.UpdaterSettings;
+import dev.dejvokep.boostedyaml.utils.collection.PackedIntList;
+import dev.dejvokep.boostedyaml.utils.format.NodeRole;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assertions.*;
 
 class MergerTest {
 
@@ -79,4 +84,169 @@ class MergerTest {
             fail(ex);
         }
     }
-}
\ No newline at end of file
+
+    @Test
+    void mergeCopies() {
+        try {
+            // Settings
+            UpdaterSettings settings = UpdaterSettings.builder().setValueCopier(value -> new StringBuilder(value.toString())).build();
+            // File
+            YamlDocument file = YamlDocument.create(
+                    new ByteArrayInputStream("x: 1".getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream("x: 2\n# Comment\ny:\n  a: [1, 2]\n  b: [a, b]\n  c: 5".getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.DEFAULT, LoaderSettings.builder().setPackNumericLists(true).build(), DumperSettings.DEFAULT, settings);
+            // Custom value
+            file.getDefaults().set("z", new StringBuilder("custom"));
+            // Merge
+            Merger.merge(file, file.getDefaults(), settings);
+
+            // Verify values
+            assertEquals(1, file.getInt("x"));
+            assertEquals(Arrays.asList(1, 2), file.getList("y.a"));
+            assertInstanceOf(PackedIntList.class, file.get("y.a"));
+            assertEquals(Arrays.asList("a", "b"), file.getList("y.b"));
+            assertEquals(5, file.getInt("y.c"));
+            assertEquals("custom", file.get("z").toString());
+            // Verify isolation
+            assertNotSame(file.getDefaults().getSection("y"), file.getSection("y"));
+            assertNotSame(file.getDefaults().get("y.a"), file.get("y.a"));
+            assertNotSame(file.getDefaults().get("y.b"), file.get("y.b"));
+            assertNotSame(file.getDefaults().get("z"), file.get("z"));
+            assertSame(file, file.getSection("y").getRoot());
+            assertSame(file, file.getSection("y").getParent());
+            // Verify comments
+            assertEquals(" Comment", Comments.get(file.getSection("y"), NodeRole.KEY, Comments.Position.BEFORE).get(0).getValue());
+            assertNotSame(Comments.get(file.getDefaults().getSection("y"), NodeRole.KEY, Comments.Position.BEFORE), Comments.get(file.getSection("y"), NodeRole.KEY, Comments.Position.BEFORE));
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Test
+    void mergeSameStructure() {
+        try {
+            // File with the same structure
+            YamlDocument file = YamlDocument.create(
+                    new ByteArrayInputStream("x: 1\ny:\n  a: 2\n  b: 3".getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream("x: 5\ny:\n  a: 6\n  b: 7".getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.DEFAULT, LoaderSettings.DEFAULT, DumperSettings.DEFAULT, UpdaterSettings.DEFAULT);
+            // Freeze the defaults
+            file.getDefaults().freeze();
+            // Merge twice (second time with the fingerprints of the defaults cached)
+            Merger.merge(file, file.getDefaults(), UpdaterSettings.DEFAULT);
+            Merger.merge(file, file.getDefaults(), UpdaterSettings.DEFAULT);
+            // Verify
+            assertEquals("x: 1\ny:\n  a: 2\n  b: 3\n", file.dump());
+            assertFalse(file.isModified());
+
+            // Keys with colliding hash codes
+            file = YamlDocument.create(
+                    new ByteArrayInputStream("x: 1\ny:\n  Aa: 2".getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream("x: 5\ny:\n  BB: 6".getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.DEFAULT, LoaderSettings.DEFAULT, DumperSettings.DEFAULT, UpdaterSettings.DEFAULT);
+            // Merge
+            Merger.merge(file, file.getDefaults(), UpdaterSettings.DEFAULT);
+            // Verify
+            assertEquals("x: 1\ny:\n  BB: 6\n", file.dump());
+
+            // Settings
+            UpdaterSettings settings = UpdaterSettings.builder().setMergeRule(MergeRule.MAPPINGS, false).build();
+            // File with the same structure
+            file = YamlDocument.create(
+                    new ByteArrayInputStream("x: 1\ny:\n  a: 2".getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream("x: 5\ny:\n  a: 6".getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.DEFAULT, LoaderSettings.DEFAULT, DumperSettings.DEFAULT, settings);
+            // Merge
+            Merger.merge(file, file.getDefaults(), settings);
+            // Verify
+            assertEquals("x: 5\ny:\n  a: 6\n", file.dump());
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Test
+    void mergeParallel() {
+        try {
+            // Generate
+            StringBuilder document = new StringBuilder(), defaults = new StringBuilder();
+            for (int i = 0; i < 20; i++) {
+                document.append('s').append(i).append(":\n");
+                defaults.append('s').append(i).append(":\n");
+                for (int j = 0; j < 20; j++) {
+                    if (j % 2 == 0)
+                        document.append("  k").append(j).append(":\n    v: ").append(j).append('\n');
+                    defaults.append("  k").append(j).append(":\n    v: ").append(-j).append('\n');
+                }
+            }
+            // Settings
+            UpdaterSettings sequential = UpdaterSettings.DEFAULT;
+            UpdaterSettings parallel = UpdaterSettings.builder().setParallelMerge(true).setParallelMergeThreshold(1).build();
+            // Files
+            YamlDocument sequentialFile = YamlDocument.create(
+                    new ByteArrayInputStream(document.toString().getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream(defaults.toString().getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.builder().setRouteIndex(true).build(), LoaderSettings.DEFAULT, DumperSettings.DEFAULT, sequential);
+            YamlDocument parallelFile = YamlDocument.create(
+                    new ByteArrayInputStream(document.toString().getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream(defaults.toString().getBytes(StandardCharsets.UTF_8)),
+                    GeneralSettings.builder().setRouteIndex(true).build(), LoaderSettings.DEFAULT, DumperSettings.DEFAULT, parallel);
+            // Build the index
+            assertEquals(0, parallelFile.getInt("s0.k0.v"));
+            // Merge
+            Merger.merge(sequentialFile, sequentialFile.getDefaults(), sequential);
+            Merger.merge(parallelFile, parallelFile.getDefaults(), parallel);
+            // Verify
+            assertEquals(sequentialFile.dump(), parallelFile.dump());
+            assertEquals(2, parallelFile.getInt("s19.k2.v"));
+            assertEquals(-3, parallelFile.getInt("s19.k3.v"));
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    @Test
+    void mergeFingerprintCollision() {
+        try {
+            // Settings
+            GeneralSettings generalSettings = GeneralSettings.builder().setKeyFormat(GeneralSettings.KeyFormat.OBJECT).build();
+            // File with keys whose fingerprints collide
+            YamlDocument file = YamlDocument.create(
+                    new ByteArrayInputStream("x: 1".getBytes(StandardCharsets.UTF_8)),
+                    new ByteArrayInputStream("x: 5".getBytes(StandardCharsets.UTF_8)),
+                    generalSettings, LoaderSettings.DEFAULT, DumperSettings.DEFAULT, UpdaterSettings.DEFAULT);
+            file.set(Route.from("y", new CollidingKey(1)), 2);
+            file.getDefaults().set(Route.from("y", new CollidingKey(2)), 6);
+            // Merge
+            Merger.merge(file, file.getDefaults(), UpdaterSettings.DEFAULT);
+            // Verify
+            assertEquals(1, file.getInt("x"));
+            assertFalse(file.contains(Route.from("y", new CollidingKey(1))));
+            assertEquals(6, file.getInt(Route.from("y", new CollidingKey(2))));
+        } catch (IOException ex) {
+            fail(ex);
+        }
+    }
+
+    /**
+     * Key whose hash code is the same for all instances.
+     */
+    private static class CollidingKey {
+
+        private final int id;
+
+        private CollidingKey(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof CollidingKey && ((CollidingKey) o).id == id;
+        }
+
+        @Override
+        public int hashCode() {
+            return 0;
+        }
+    }
+}
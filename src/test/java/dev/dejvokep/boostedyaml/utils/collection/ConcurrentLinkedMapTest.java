@@ -0,0 +1,100 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.utils.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConcurrentLinkedMapTest {
+
+    @Test
+    void order() {
+        // Create
+        Map<String, Integer> map = new ConcurrentLinkedMap<>();
+        map.put("c", 1);
+        map.put("a", 2);
+        map.put("b", 3);
+        map.put("a", 4);
+        map.remove("c");
+        map.put("c", 5);
+        // Assert
+        assertEquals(Arrays.asList("a", "b", "c"), new ArrayList<>(map.keySet()));
+        assertEquals(Arrays.asList(4, 3, 5), new ArrayList<>(map.values()));
+        assertEquals(new LinkedHashMap<>(map), map);
+        assertEquals(3, map.size());
+    }
+
+    @Test
+    void nulls() {
+        // Create
+        Map<String, Integer> map = new ConcurrentLinkedMap<>();
+        map.put(null, 1);
+        map.put("a", null);
+        // Assert
+        assertEquals(1, map.get(null));
+        assertTrue(map.containsKey("a"));
+        assertNull(map.get("a"));
+        assertEquals(7, map.getOrDefault("b", 7));
+        assertNull(map.getOrDefault("a", 7));
+        assertEquals(Arrays.asList(null, "a"), new ArrayList<>(map.keySet()));
+    }
+
+    @Test
+    void atomic() {
+        // Create
+        ConcurrentLinkedMap<String, Integer> map = new ConcurrentLinkedMap<>();
+        // Assert
+        assertNull(map.putIfAbsent("a", 1));
+        assertEquals(1, map.putIfAbsent("a", 2));
+        assertFalse(map.replace("a", 2, 3));
+        assertTrue(map.replace("a", 1, 3));
+        assertFalse(map.remove("a", 1));
+        assertTrue(map.remove("a", 3));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    void iterator() {
+        // Create
+        Map<String, Integer> map = new ConcurrentLinkedMap<>();
+        map.put("a", 1);
+        map.put("b", 2);
+        map.put("c", 3);
+        Iterator<Map.Entry<String, Integer>> iterator = map.entrySet().iterator();
+        // Modify while iterating
+        assertEquals("a", iterator.next().getKey());
+        map.remove("b");
+        map.put("d", 4);
+        assertEquals("c", iterator.next().getKey());
+        iterator.remove();
+        // Assert
+        assertEquals(4, iterator.next().setValue(5));
+        assertFalse(iterator.hasNext());
+        assertEquals(Arrays.asList("a", "d"), new ArrayList<>(map.keySet()));
+        assertEquals(5, map.get("d"));
+        // Clear while iterating
+        iterator = map.entrySet().iterator();
+        iterator.next();
+        map.clear();
+        assertFalse(iterator.hasNext());
+        assertTrue(map.isEmpty());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 https://dejvokep.dev/
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package dev.dejvokep.boostedyaml.utils.collection;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedListTest {
+
+    @Test
+    void pack() {
+        assertEquals(PackedIntList.class, PackedList.pack(Arrays.asList(1, 2, 3)).getClass());
+        assertEquals(PackedLongList.class, PackedList.pack(Arrays.asList(1L, 2L)).getClass());
+        assertEquals(PackedDoubleList.class, PackedList.pack(Arrays.asList(1D, 2.5)).getClass());
+        assertEquals(Arrays.asList(1, 2, 3), PackedList.pack(Arrays.asList(1, 2, 3)));
+        assertEquals(3, ((PackedIntList) PackedList.pack(Arrays.asList(1, 2, 3))).array().length);
+        assertNull(PackedList.pack(Collections.emptyList()));
+        assertNull(PackedList.pack(Arrays.asList(1, 2L)));
+        assertNull(PackedList.pack(Arrays.asList(1, null)));
+        assertNull(PackedList.pack(Arrays.asList("a", "b")));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void modify() {
+        // Create
+        PackedIntList list = new PackedIntList();
+        for (int i = 0; i < 20; i++)
+            list.addInt(i);
+        // Modify
+        list.add(0, -1);
+        list.remove(Integer.valueOf(10));
+        list.set(1, 100);
+        // Assert
+        ArrayList<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++)
+            expected.add(i);
+        expected.add(0, -1);
+        expected.remove(Integer.valueOf(10));
+        expected.set(1, 100);
+        assertEquals(expected, list);
+        assertTrue(list.array().length >= expected.size());
+        list.trimToSize();
+        assertEquals(expected.size(), list.array().length);
+        assertEquals(100, list.getInt(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(list.size()));
+        assertThrows(ClassCastException.class, () -> ((List<Object>) (List<?>) list).add("a"));
+        // Clear
+        list.clear();
+        assertTrue(list.isEmpty());
+    }
+
+    @Test
+    void array() {
+        // Create
+        double[] array = {1.5, 2.5};
+        PackedDoubleList list = new PackedDoubleList(array);
+        // Assert
+        assertSame(array, list.array());
+        assertNotSame(array, list.toDoubleArray());
+        assertNotSame(array, list.copy().array());
+        // Modify
+        array[0] = 3;
+        // Assert
+        assertEquals(3D, list.get(0));
+        assertThrows(IllegalArgumentException.class, () -> new PackedLongList(new long[1], 2));
+    }
+
+}